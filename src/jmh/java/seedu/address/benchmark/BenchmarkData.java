@@ -0,0 +1,44 @@
+package seedu.address.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Generates the data that benchmarks run over.
+ * The data only depends on the requested size, so that the results of different runs can be compared.
+ */
+public class BenchmarkData {
+
+    private static final int PERSONS_PER_EVENT = 100;
+
+    /**
+     * Returns {@code size} persons with distinct names.
+     */
+    public static List<Person> getPersons(int size) {
+        return new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).generatePersons(size);
+    }
+
+    /**
+     * Returns a person whose name is not the name of any person returned by {@link #getPersons(int)}.
+     */
+    public static Person getOtherPerson() {
+        return new Person(new Name("Zed Zulkifli"), new Phone("91234567"), new Email("zed@example.com"),
+                new Address("Blk 1 Benchmark Road"), new HashSet<>());
+    }
+
+    /**
+     * Returns an event for every {@value #PERSONS_PER_EVENT} of {@code persons}, attended by some of them.
+     */
+    public static List<Event> getEvents(List<Person> persons) {
+        return new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED)
+                .generateEvents(Math.max(1, persons.size() / PERSONS_PER_EVENT), persons);
+    }
+}
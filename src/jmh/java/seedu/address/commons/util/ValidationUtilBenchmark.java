@@ -0,0 +1,64 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks validating the fields of a person, which happens for every person loaded,
+ * against matching the validation regexes that the validators replace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ValidationUtilBenchmark {
+
+    private String name = "Charlotte Oliveiro 12345";
+    private String phone = "93210283";
+    private String tag = "colleagues";
+
+    @Benchmark
+    public boolean isValidName() {
+        return Name.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean isValidName_regex() {
+        return name.matches(Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean isValidPhone() {
+        return Phone.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public boolean isValidPhone_regex() {
+        return phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean isValidTagName() {
+        return Tag.isValidTagName(tag);
+    }
+
+    @Benchmark
+    public boolean isValidTagName_regex() {
+        return tag.matches(Tag.VALIDATION_REGEX);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.export.PersonDataExporter;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameAndTagCombinedPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks finding persons, both through the find command, which looks up the indices of the address book,
+ * and by testing the find predicates against every person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({" n/alex tan", " fn/berice", " t/friends t/family", " n/irfan t/colleagues"})
+    private String arguments;
+
+    private List<Person> persons;
+    private Model model;
+    private NameAndTagCombinedPredicate predicate;
+
+    @Setup
+    public void setUp() throws ParseException {
+        persons = BenchmarkData.getPersons(size);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        model = new ModelManager(addressBook, new UserPrefs(), new EventBook(), new PersonDataExporter());
+        predicate = new FindCommandParser().parsePredicate(arguments);
+    }
+
+    @Benchmark
+    public CommandResult execute() {
+        return new FindCommand(predicate).execute(model);
+    }
+
+    @Benchmark
+    public long testEveryPerson() {
+        return persons.stream().filter(predicate).count();
+    }
+}
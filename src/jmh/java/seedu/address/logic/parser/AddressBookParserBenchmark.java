@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing commands, which happens for every command entered and for every key typed in a find command.
+ * Parsing does not depend on the number of persons, so these benchmarks are run over different commands instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "addp n/Alex Yeoh p/87438807 e/alexyeoh@example.com a/Blk 30 Geylang Street 29, #06-40 t/friends",
+        "find n/alex bernice t/friends",
+        "find fn/alx",
+        "list"
+    })
+    private String command;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(command);
+    }
+}
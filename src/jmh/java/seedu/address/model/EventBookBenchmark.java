@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks updating the events of a person that is edited.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EventBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private EventBook eventBook;
+    private Person attendee;
+    private Person renamedAttendee;
+    private Person editedAttendee;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons = BenchmarkData.getPersons(size);
+        eventBook = new EventBook();
+        eventBook.setEvents(BenchmarkData.getEvents(persons));
+
+        Name attendeeName = eventBook.getEventList().get(0).getAttendees().iterator().next();
+        attendee = persons.stream().filter(person -> person.getName().equals(attendeeName)).findFirst().get();
+        renamedAttendee = new Person(new Name(attendeeName.fullName + " Renamed"), attendee.getPhone(),
+                attendee.getEmail(), attendee.getAddress(), attendee.getTags());
+        editedAttendee = new Person(attendeeName, attendee.getPhone(), attendee.getEmail(),
+                BenchmarkData.getOtherPerson().getAddress(), attendee.getTags());
+    }
+
+    /**
+     * Renames an attendee in all events, and then renames the attendee back so that every invocation does the same.
+     */
+    @Benchmark
+    public EventBook editPersonInAllEvents_rename() {
+        eventBook.editPersonInAllEvents(attendee, renamedAttendee);
+        eventBook.editPersonInAllEvents(renamedAttendee, attendee);
+        return eventBook;
+    }
+
+    @Benchmark
+    public EventBook editPersonInAllEvents_sameName() {
+        eventBook.editPersonInAllEvents(attendee, editedAttendee);
+        return eventBook;
+    }
+}
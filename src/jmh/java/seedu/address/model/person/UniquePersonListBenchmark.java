@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks the operations of {@code UniquePersonList} that the commands and the storage rely on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList personList;
+    private Person lastPerson;
+    private Person otherPerson;
+
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.getPersons(size);
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        lastPerson = persons.get(size - 1);
+        otherPerson = BenchmarkData.getOtherPerson();
+    }
+
+    /**
+     * Adds every person to an empty list one at a time, as the add command does.
+     */
+    @Benchmark
+    public UniquePersonList addAll() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return personList.contains(lastPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return personList.contains(otherPerson);
+    }
+
+    /**
+     * Replaces the contents of a list, as loading the address book does.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        return list;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks saving and reading the JSON data files, which happens after every command and at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private EventBook eventBook;
+    private JsonAddressBookStorage addressBookStorage;
+    private JsonEventBookStorage eventBookStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Person> persons = BenchmarkData.getPersons(size);
+        addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        eventBook = new EventBook();
+        eventBook.setEvents(BenchmarkData.getEvents(persons));
+
+        directory = Files.createTempDirectory("json-storage-benchmark");
+        addressBookStorage = new JsonAddressBookStorage(directory.resolve("addressbook.json"));
+        eventBookStorage = new JsonEventBookStorage(directory.resolve("eventbook.json"));
+        addressBookStorage.saveAddressBook(addressBook);
+        eventBookStorage.saveEventBook(eventBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        List<Path> files;
+        try (Stream<Path> fileStream = Files.list(directory)) {
+            files = fileStream.collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        addressBookStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return addressBookStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public void saveEventBook() throws IOException {
+        eventBookStorage.saveEventBook(eventBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyEventBook> readEventBook() throws DataLoadingException {
+        return eventBookStorage.readEventBook();
+    }
+}
@@ -18,6 +18,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Integer syntheticPersonCount;
+    private Integer syntheticEventCount;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +29,28 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the number of persons to generate data files with, or null if data files should not be generated.
+     */
+    public Integer getSyntheticPersonCount() {
+        return syntheticPersonCount;
+    }
+
+    public void setSyntheticPersonCount(Integer syntheticPersonCount) {
+        this.syntheticPersonCount = syntheticPersonCount;
+    }
+
+    /**
+     * Returns the number of events to generate data files with, or null to generate the default number of events.
+     */
+    public Integer getSyntheticEventCount() {
+        return syntheticEventCount;
+    }
+
+    public void setSyntheticEventCount(Integer syntheticEventCount) {
+        this.syntheticEventCount = syntheticEventCount;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,9 +65,32 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        appParameters.setSyntheticPersonCount(parseCount(namedParameters.get("synthetic-persons")));
+        appParameters.setSyntheticEventCount(parseCount(namedParameters.get("synthetic-events")));
+
         return appParameters;
     }
 
+    /**
+     * Returns the non-negative count in {@code countParameter}, or null if it is not given or is invalid.
+     */
+    private static Integer parseCount(String countParameter) {
+        if (countParameter == null) {
+            return null;
+        }
+        int count;
+        try {
+            count = Integer.parseInt(countParameter.trim());
+        } catch (NumberFormatException e) {
+            count = -1;
+        }
+        if (count < 0) {
+            logger.warning("Invalid count " + countParameter + ". Ignoring it.");
+            return null;
+        }
+        return count;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +103,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(syntheticPersonCount, otherAppParameters.syntheticPersonCount)
+                && Objects.equals(syntheticEventCount, otherAppParameters.syntheticEventCount);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, syntheticPersonCount, syntheticEventCount);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("syntheticPersonCount", syntheticPersonCount)
+                .add("syntheticEventCount", syntheticEventCount)
                 .toString();
     }
 }
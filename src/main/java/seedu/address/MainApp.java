@@ -1,20 +1,29 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.export.PersonDataExporter;
 import seedu.address.export.PersonExporter;
+import seedu.address.logic.EventBookLoader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -26,13 +35,17 @@ import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.util.SyntheticDataGenerator;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryEventBookStorage;
 import seedu.address.storage.EventBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonEventBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JournalEventBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StorageMigrator;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -46,6 +59,12 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** The number of persons for every generated event, if the number of events to generate is not given. */
+    private static final int PERSONS_PER_SYNTHETIC_EVENT = 100;
+
+    /** The address book and the event book are loaded on their own threads. */
+    private static final int STARTUP_LOADER_THREADS = 2;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
@@ -53,21 +72,30 @@ public class MainApp extends Application {
     protected PersonExporter personExporter;
     protected Config config;
 
+    // The event book being read, which is loaded into the model after the main window is shown
+    private CompletableFuture<ReadOnlyEventBook> eventBookFuture;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
+        long startTime = System.nanoTime();
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = logDuration("Reading config", () -> initConfig(appParameters.getConfigPath()));
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        EventBookStorage eventBookStorage = new JsonEventBookStorage(userPrefs.getEventBookFilePath());
+        UserPrefs userPrefs = logDuration("Reading preferences", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        EventBookStorage eventBookStorage = initEventBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage, eventBookStorage);
 
+        if (appParameters.getSyntheticPersonCount() != null) {
+            generateSyntheticData(storage, appParameters.getSyntheticPersonCount(),
+                    appParameters.getSyntheticEventCount());
+        }
+
         personExporter = new PersonDataExporter();
         personExporter.setFilePath(config.getPersonExportFilePath());
 
@@ -76,47 +104,144 @@ public class MainApp extends Application {
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+        logger.info("Initialized in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The address book and the event book are read and converted concurrently, as each can take seconds.
+     * The model starts with an empty event book, which is filled by {@link #start(Stage)} once
+     * {@link #eventBookFuture} completes, so that the app can be used before the event book is loaded.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, PersonExporter personExporter) {
         logger.info("Using data file : " + storage.getAddressBookFilePath() + storage.getEventBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyEventBook> eventBookOptional;
-        ReadOnlyAddressBook initialAddressBookData;
-        ReadOnlyEventBook initialEventBookData;
+        ExecutorService loader = Executors.newFixedThreadPool(STARTUP_LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
         try {
-            addressBookOptional = storage.readAddressBook();
+            CompletableFuture<ReadOnlyAddressBook> addressBookFuture = CompletableFuture.supplyAsync(() ->
+                    logDuration("Loading address book", () -> loadAddressBook(storage)), loader);
+            eventBookFuture = CompletableFuture.supplyAsync(() ->
+                    logDuration("Loading event book", () -> EventBookLoader.readEventBook(storage)), loader);
+
+            ReadOnlyAddressBook initialAddressBookData = getLoaded(addressBookFuture);
+            return logDuration("Creating model", () ->
+                    new ModelManager(initialAddressBookData, userPrefs, new EventBook(), personExporter));
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    private ReadOnlyAddressBook loadAddressBook(Storage storage) {
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
-            initialAddressBookData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialAddressBookData = new AddressBook();
+            return new AddressBook();
         }
+    }
 
+    /**
+     * Waits for {@code future} to complete, and returns its result.
+     * Unexpected exceptions thrown while loading are rethrown as they were thrown, as if nothing was loaded
+     * concurrently.
+     */
+    private static <T> T getLoaded(CompletableFuture<T> future) {
         try {
-            eventBookOptional = storage.readEventBook();
-            if (!eventBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getEventBookFilePath()
-                        + " populated with a sample EventBook.");
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-            initialEventBookData = eventBookOptional.orElseGet(SampleDataUtil::getSampleEventBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getEventBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty EventBook.");
-            initialEventBookData = new EventBook();
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
         }
+    }
 
-        return new ModelManager(initialAddressBookData, userPrefs, initialEventBookData, personExporter);
+    /**
+     * Returns the result of {@code phase}, and logs how long it took, so that slow startups can be diagnosed.
+     */
+    private static <T> T logDuration(String phaseName, Supplier<T> phase) {
+        long startTime = System.nanoTime();
+        T result = phase.get();
+        logger.info(phaseName + " took " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+        return result;
+    }
+
+    /**
+     * Fills the data files of {@code storage} with generated persons and events, for trying out the app with many
+     * persons. Existing data files are never overwritten.
+     *
+     * @param eventCount The number of events to generate, or null to generate one event for every
+     *     {@value #PERSONS_PER_SYNTHETIC_EVENT} persons.
+     */
+    private void generateSyntheticData(Storage storage, int personCount, Integer eventCount) {
+        if (Files.exists(storage.getAddressBookFilePath()) || Files.exists(storage.getEventBookFilePath())) {
+            logger.warning("Data files already exist. Not generating synthetic data.");
+            return;
+        }
+
+        int actualEventCount = eventCount != null ? eventCount : personCount / PERSONS_PER_SYNTHETIC_EVENT;
+        logger.info("Generating data files with " + personCount + " persons and " + actualEventCount + " events");
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+        AddressBook addressBook = generator.generateAddressBook(personCount);
+        try {
+            storage.saveAddressBook(addressBook);
+            storage.saveEventBook(generator.generateEventBook(actualEventCount, addressBook));
+        } catch (IOException e) {
+            logger.warning("Failed to save generated data files : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} that stores the address book in the storage format of {@code userPrefs}.
+     * If there is no data file in that format yet, the address book is migrated from the JSON data file.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.getStorageFormat() == StorageFormat.JSON) {
+            return new JournalAddressBookStorage(jsonFilePath);
+        }
+
+        AddressBookStorage binaryStorage = new BinaryAddressBookStorage(StorageFormat.BINARY.toFilePath(jsonFilePath));
+        try {
+            StorageMigrator.migrateAddressBook(new JournalAddressBookStorage(jsonFilePath), binaryStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to migrate data file " + jsonFilePath + " : " + StringUtil.getDetails(e));
+        }
+        return new JournalAddressBookStorage(binaryStorage);
+    }
+
+    /**
+     * Returns an {@code EventBookStorage} that stores the event book in the storage format of {@code userPrefs}.
+     * If there is no data file in that format yet, the event book is migrated from the JSON data file.
+     */
+    private EventBookStorage initEventBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getEventBookFilePath();
+        if (userPrefs.getStorageFormat() == StorageFormat.JSON) {
+            return new JournalEventBookStorage(jsonFilePath);
+        }
+
+        EventBookStorage binaryStorage = new BinaryEventBookStorage(StorageFormat.BINARY.toFilePath(jsonFilePath));
+        try {
+            StorageMigrator.migrateEventBook(new JournalEventBookStorage(jsonFilePath), binaryStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to migrate data file " + jsonFilePath + " : " + StringUtil.getDetails(e));
+        }
+        return new JournalEventBookStorage(binaryStorage);
     }
 
     private void initLogging(Config config) {
@@ -197,12 +322,14 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting Eventy " + MainApp.VERSION);
+        logic.loadEventBook(eventBookFuture);
         ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Eventy ] =============================");
+        logic.flushSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
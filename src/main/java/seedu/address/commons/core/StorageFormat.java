@@ -0,0 +1,33 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * The formats that the address book and event book data files can be stored in.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON files. */
+    JSON(".json"),
+    /** Compact binary snapshot files, which are faster to load. */
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the path of the data file in this format that corresponds to {@code filePath},
+     * which is {@code filePath} with its extension replaced by the extension of this format.
+     */
+    public Path toFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+}
@@ -1,10 +1,16 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +18,19 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes the content of a file to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, which may be closed afterwards.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +91,79 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the path of the backup of {@code file} kept by {@link #writeAtomically(Path, ContentWriter, boolean)}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file atomically, so that the file always has either
+     * its old or its new content even if writing is interrupted.
+     * The content is written to a temporary file in the same directory, forced to the disk,
+     * and then moved over the file. Missing parent directories are created.
+     *
+     * @param shouldKeepBackup If true, the old content of the file is kept at {@link #getBackupFilePath(Path)}.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, boolean shouldKeepBackup)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                contentWriter.writeTo(out);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+
+            if (shouldKeepBackup && isFileExists(file)) {
+                backUp(file);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Makes the backup of {@code file} refer to its current content.
+     * A hard link is used where supported, as it is cheaper than copying the content. This is safe because
+     * {@code file} is then replaced by a move instead of being written in place.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backupFile = getBackupFilePath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it survives a crash.
+     * Not all platforms support this, in which case nothing is done.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, where moving the file is durable enough
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
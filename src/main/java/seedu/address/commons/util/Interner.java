@@ -0,0 +1,126 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizes immutable values, so that equal values share a single instance, like {@link String#intern()}.
+ * Values that are held in many places then take up memory once for every distinct value, and equal values are
+ * the same object, so comparing them succeeds at the reference check.
+ * <p>
+ * Canonical values are only weakly held, so values that are no longer used elsewhere are still garbage collected.
+ * Instances are thread-safe, and values are interned without locking, so that threads creating many values at
+ * once, such as the threads converting a data file, do not wait for each other.
+ *
+ * @param <T> An immutable type, whose {@code equals} and {@code hashCode} are based on its value.
+ */
+public class Interner<T> {
+
+    // Keyed by the canonical references themselves, which are looked up with a LookupKey of an equal value
+    private final ConcurrentMap<Object, CanonicalReference<T>> canonicalValues = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collectedValues = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance of the value equal to {@code value},
+     * which is {@code value} itself if no equal value has been interned yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        removeCollectedValues();
+
+        CanonicalReference<T> canonicalReference = canonicalValues.get(new LookupKey(value));
+        T canonicalValue = canonicalReference == null ? null : canonicalReference.get();
+        if (canonicalValue != null) {
+            return canonicalValue;
+        }
+
+        CanonicalReference<T> reference = new CanonicalReference<>(value, collectedValues);
+        while (true) {
+            canonicalReference = canonicalValues.putIfAbsent(reference, reference);
+            if (canonicalReference == null) {
+                return value;
+            }
+            // A value collected since it was matched no longer equals any value, so the next attempt cannot match it
+            canonicalValue = canonicalReference.get();
+            if (canonicalValue != null) {
+                return canonicalValue;
+            }
+        }
+    }
+
+    private void removeCollectedValues() {
+        Reference<? extends T> collectedValue;
+        while ((collectedValue = collectedValues.poll()) != null) {
+            canonicalValues.remove(collectedValue);
+        }
+    }
+
+    /**
+     * Returns the value that {@code key}, a key of {@link #canonicalValues}, stands for,
+     * or null if it is a reference to a value that has been collected.
+     */
+    private static Object valueOf(Object key) {
+        if (key instanceof LookupKey) {
+            return ((LookupKey) key).value;
+        }
+        if (key instanceof CanonicalReference) {
+            return ((CanonicalReference<?>) key).get();
+        }
+        return null;
+    }
+
+    /**
+     * A weak reference to a canonical value, which is equal to the keys that stand for an equal value.
+     * Once the value is collected, the reference is only equal to itself.
+     */
+    private static final class CanonicalReference<T> extends WeakReference<T> {
+
+        private final int hash;
+
+        CanonicalReference(T value, ReferenceQueue<? super T> queue) {
+            super(value, queue);
+            hash = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            Object value = get();
+            return value != null && value.equals(valueOf(other));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A key for looking up the canonical reference to a value equal to {@code value}, without creating a reference.
+     */
+    private static final class LookupKey {
+
+        private final Object value;
+
+        LookupKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || value.equals(valueOf(other));
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+}
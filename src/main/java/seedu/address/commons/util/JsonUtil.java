@@ -1,17 +1,28 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +33,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,12 +52,15 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeAtomically(jsonFile, out ->
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize), false);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(jsonFile))) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -92,6 +107,103 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Reads the elements of the array field {@code arrayFieldName} of the JSON object in the given file one at a time,
+     * passing each of them to {@code elementHandler} as soon as it is read, so the whole file is never held in memory.
+     * Other fields of the JSON object are skipped.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass the elements of the array have to correspond to the structure in the class given here.
+     * @return {@code false} if the file is not found; {@code true} otherwise.
+     * @throws DataLoadingException if reading or parsing the JSON file failed.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<T> elementHandler) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(parser.readValueAs(elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Similar to {@link #readJsonArrayFile(Path, String, Class, ElementHandler)}, but passes the elements to
+     * {@code batchHandler} in lists of up to {@code batchSize} elements, in the order they are read.
+     * The list passed to {@code batchHandler} is reused for the next batch, so it must not be kept.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            int batchSize, ElementHandler<List<T>> batchHandler) throws DataLoadingException, IllegalValueException {
+        checkArgument(batchSize > 0, "The batch size must be positive");
+        requireNonNull(batchHandler);
+
+        List<T> batch = new ArrayList<>(batchSize);
+        boolean isFound = readJsonArrayFile(filePath, arrayFieldName, elementClass, element -> {
+            batch.add(element);
+            if (batch.size() == batchSize) {
+                batchHandler.handle(batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            batchHandler.handle(batch);
+        }
+        return isFound;
+    }
+
+    /**
+     * Saves {@code elements} as the array field {@code arrayFieldName} of a JSON object to the specified file.
+     * Each element is converted by {@code toJsonAdapted} and written out one at a time,
+     * so the whole JSON document is never held in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, and its previous content is kept at {@link FileUtil#getBackupFilePath(Path)}.
+     *
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <S> void saveJsonArrayFile(Iterable<S> elements, Function<S, ?> toJsonAdapted, String arrayFieldName,
+            Path filePath) throws IOException {
+        requireNonNull(elements);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayFieldName);
+                for (S element : elements) {
+                    generator.writeObject(toJsonAdapted.apply(element));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }, true);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +223,29 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any line breaks
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles the elements read by {@link #readJsonArrayFile(Path, String, Class, ElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        /**
+         * Handles the next element read.
+         *
+         * @throws IllegalValueException if the element violates data constraints.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,122 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+
+/**
+ * Fills the event book of a model with the events of an event book that is still being read, so that the app can be
+ * used before all events are loaded.
+ * <p>
+ * The events are added in batches by the applier, which runs tasks on the thread that owns the model, so that the
+ * thread can handle other work, such as drawing the UI, between batches. Until all events are added, the model
+ * reports that its event book is not loaded.
+ * If the event book cannot be read, the model is left with an empty event book that is not saved, and the failure
+ * handler is told about it.
+ */
+public class EventBookLoader {
+
+    static final int EVENTS_PER_BATCH = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(EventBookLoader.class);
+
+    private final Model model;
+    private final Executor applier;
+    private Consumer<String> failureHandler = message -> { };
+
+    /**
+     * Creates an {@code EventBookLoader} that loads events into {@code model}.
+     *
+     * @param applier Runs tasks on the thread that owns {@code model}.
+     */
+    public EventBookLoader(Model model, Executor applier) {
+        requireNonNull(model);
+        requireNonNull(applier);
+        this.model = model;
+        this.applier = applier;
+    }
+
+    /**
+     * Reads the event book to be loaded from {@code storage}, or returns a sample event book if there is no data file.
+     * Meant to be called on a background thread by the future that is given to {@link #load(CompletableFuture)}.
+     *
+     * @throws CompletionException if the data file cannot be read, so that the future reading it fails and the
+     *     data file is not overwritten with an empty event book.
+     */
+    public static ReadOnlyEventBook readEventBook(Storage storage) {
+        requireNonNull(storage);
+        try {
+            Optional<ReadOnlyEventBook> eventBookOptional = storage.readEventBook();
+            if (!eventBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getEventBookFilePath()
+                        + " populated with a sample EventBook.");
+            }
+            return eventBookOptional.orElseGet(SampleDataUtil::getSampleEventBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getEventBookFilePath() + " could not be loaded.");
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Sets the handler that is given an error message if the event book cannot be read.
+     * The handler is called by the applier.
+     */
+    public void setFailureHandler(Consumer<String> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Empties the event book of the model, and fills it with the events of {@code eventBook} once it is read.
+     * Must be called on the thread that owns the model.
+     * If {@code eventBook} cannot be read, the event book of the model is marked as loaded but stays empty, and is
+     * not saved, so that the data file of the event book is not overwritten.
+     */
+    public void load(CompletableFuture<? extends ReadOnlyEventBook> eventBook) {
+        requireNonNull(eventBook);
+        model.startLoadingEventBook();
+        eventBook.whenComplete((loadedEventBook, error) -> {
+            if (error != null) {
+                logger.severe("Failed to load the event book : " + StringUtil.getDetails(error));
+                applier.execute(this::fail);
+                return;
+            }
+            List<Event> events = new ArrayList<>(loadedEventBook.getEventList());
+            applier.execute(() -> addBatch(loadedEventBook, events, 0));
+        });
+    }
+
+    private void addBatch(ReadOnlyEventBook loadedEventBook, List<Event> events, int start) {
+        int end = Math.min(start + EVENTS_PER_BATCH, events.size());
+        model.addLoadedEvents(events.subList(start, end));
+        if (end < events.size()) {
+            applier.execute(() -> addBatch(loadedEventBook, events, end));
+            return;
+        }
+
+        model.finishLoadingEventBook(loadedEventBook);
+        logger.info("Loaded " + events.size() + " events");
+    }
+
+    private void fail() {
+        model.failLoadingEventBook();
+        failureHandler.accept(Messages.MESSAGE_EVENT_BOOK_LOAD_FAILED);
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameAndTagCombinedPredicate;
+
+/**
+ * Filters the displayed person list while a find command is being typed, before it is executed.
+ * <p>
+ * The persons matching a query are looked up in the indices of the model, as {@link FindCommand} does, so that
+ * neither the persons are copied nor every person is tested against the query to find them. The displayed list is
+ * only filtered again when the query changes.
+ * All methods must be called on the thread that owns the model.
+ */
+public class LiveFindFilter {
+
+    private static final String FIND_COMMAND_PREFIX = FindCommand.COMMAND_WORD + " ";
+
+    private static final Logger logger = LogsCenter.getLogger(LiveFindFilter.class);
+
+    private final Model model;
+    private final FindCommandParser findCommandParser = new FindCommandParser();
+
+    // The query whose result is displayed, null if the displayed list is not filtered by this filter
+    private NameAndTagCombinedPredicate appliedPredicate;
+    private boolean isAppliedToSelectedEvent;
+
+    /**
+     * Creates a {@code LiveFindFilter} that filters the displayed person lists of {@code model}.
+     */
+    public LiveFindFilter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Filters the displayed person list by {@code commandText} if it is a valid find command.
+     * If it is not a find command, the person list is no longer filtered by an earlier incomplete find command.
+     * Invalid find commands, which are typically incomplete, leave the person list as it is.
+     */
+    public void filter(String commandText) {
+        requireNonNull(commandText);
+
+        String trimmedCommandText = commandText.trim();
+        if (!(trimmedCommandText + " ").startsWith(FIND_COMMAND_PREFIX)) {
+            reset();
+            return;
+        }
+
+        NameAndTagCombinedPredicate predicate;
+        try {
+            predicate = findCommandParser.parsePredicate(" " + trimmedCommandText.substring(
+                    FindCommand.COMMAND_WORD.length()));
+        } catch (ParseException e) {
+            return;
+        }
+
+        boolean isSelectedEvent = model.isAnEventSelected();
+        // The displayed result stays up to date as persons change, so the same query need not be applied again
+        if (predicate.equals(appliedPredicate) && isSelectedEvent == isAppliedToSelectedEvent) {
+            logger.fine("Live find query unchanged " + predicate);
+            return;
+        }
+
+        NameAndTagCombinedPredicate resolvedPredicate = FindCommand.resolvePredicate(predicate, model);
+        if (isSelectedEvent) {
+            model.updateFilteredPersonListOfSelectedEvent(resolvedPredicate);
+        } else {
+            model.updateFilteredPersonList(resolvedPredicate);
+        }
+        appliedPredicate = predicate;
+        isAppliedToSelectedEvent = isSelectedEvent;
+    }
+
+    /**
+     * Forgets the query whose result is displayed, as the displayed list is about to be changed by a command.
+     */
+    public void cancel() {
+        appliedPredicate = null;
+    }
+
+    /**
+     * Shows all persons again if the displayed list is filtered by this filter.
+     */
+    private void reset() {
+        if (appliedPredicate == null) {
+            return;
+        }
+        if (isAppliedToSelectedEvent) {
+            model.updateFilteredPersonListOfSelectedEvent(PREDICATE_SHOW_ALL_PERSONS);
+        } else {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+        appliedPredicate = null;
+    }
+}
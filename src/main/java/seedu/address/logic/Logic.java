@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -9,6 +11,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
@@ -25,6 +28,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Previews the effect of {@code commandText}, a command that is still being typed, on the displayed person list.
+     * Only find commands are previewed, by filtering the person list without executing them.
+     * Must be called on the JavaFX application thread.
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Sets the handler that is given an error message when saving the changes made by a command fails.
+     * Changes are saved in the background, so the handler is called on a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Fills the event book of the model with the events of {@code eventBook} once it is read, in batches on the
+     * JavaFX application thread, as done by {@link EventBookLoader}.
+     * Must be called on the JavaFX application thread.
+     */
+    void loadEventBook(CompletableFuture<? extends ReadOnlyEventBook> eventBook);
+
+    /**
+     * Sets the handler that is given an error message if the event book given to
+     * {@link #loadEventBook(CompletableFuture)} cannot be read. The handler is called on the JavaFX application thread.
+     */
+    void setLoadFailureHandler(Consumer<String> loadFailureHandler);
+
+    /**
+     * Blocks until the changes made by all executed commands are saved, then stops saving in the background.
+     * No more commands should be executed afterwards.
+     */
+    void flushSaves();
+
     /**
      * Returns the AddressBook.
      *
@@ -32,6 +67,9 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /** Returns whether the event book is loaded, as it is loaded after the app starts */
+    ObservableValue<Boolean> getEventBookLoaded();
+
     /** Returns an unmodifiable view of the selected event */
     ObservableValue<Event> getSelectedEvent();
 
@@ -3,8 +3,12 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -16,8 +20,10 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundStorageWriter;
 import seedu.address.storage.Storage;
 
 /**
@@ -32,50 +38,95 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final BackgroundStorageWriter storageWriter;
     private final AddressBookParser addressBookParser;
+    private final LiveFindFilter liveFindFilter;
+    private final EventBookLoader eventBookLoader;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which loads the event book
+     * into the model with {@code applier}.
+     *
+     * @param applier Runs tasks on the thread that owns {@code model}.
+     */
+    LogicManager(Model model, Storage storage, Executor applier) {
         this.model = model;
-        this.storage = storage;
+        storageWriter = new BackgroundStorageWriter(storage);
         addressBookParser = new AddressBookParser();
+        liveFindFilter = new LiveFindFilter(model);
+        eventBookLoader = new EventBookLoader(model, applier);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        liveFindFilter.cancel();
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        if (!model.isEventBookLoaded() && command.requiresEventBook()) {
+            throw new CommandException(Messages.MESSAGE_EVENT_BOOK_LOADING);
         }
+        commandResult = command.execute(model);
 
-        try {
-            storage.saveEventBook(model.getEventBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        storageWriter.saveAddressBook(model.getAddressBook());
+        // Saving a partly loaded event book, or one that failed to load, would lose the events in the data file
+        if (model.canSaveEventBook()) {
+            storageWriter.saveEventBook(model.getEventBook());
         }
 
         return commandResult;
     }
 
+    @Override
+    public void previewCommand(String commandText) {
+        liveFindFilter.filter(commandText);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storageWriter.setFailureHandler(e -> saveFailureHandler.accept(getSaveFailureMessage(e)));
+    }
+
+    @Override
+    public void loadEventBook(CompletableFuture<? extends ReadOnlyEventBook> eventBook) {
+        eventBookLoader.load(eventBook);
+    }
+
+    @Override
+    public void setLoadFailureHandler(Consumer<String> loadFailureHandler) {
+        eventBookLoader.setFailureHandler(loadFailureHandler);
+    }
+
+    @Override
+    public void flushSaves() {
+        storageWriter.close();
+    }
+
+    private static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public ObservableValue<Boolean> getEventBookLoaded() {
+        return model.getEventBookLoaded();
+    }
+
     @Override
     public ObservableValue<Event> getSelectedEvent() {
         return model.getSelectedEvent();
@@ -22,6 +22,9 @@ public class Messages {
     public static final String MESSAGE_INVALID_EVENT_DISPLAYED_INDEX = "The event index provided is invalid!";
     public static final String MESSAGE_SELECT_EVENT = "No event is selected!";
     public static final String MESSAGE_INVALID_EXPORT_FORMAT = "At least 1 flag should be provided!";
+    public static final String MESSAGE_EVENT_BOOK_LOADING = "Events are still loading, please try again in a moment.";
+    public static final String MESSAGE_EVENT_BOOK_LOAD_FAILED = "Events could not be loaded from the data file, "
+            + "so no events are shown. Changes to events will not be saved until the data file is fixed.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
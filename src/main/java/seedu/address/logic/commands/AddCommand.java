@@ -48,6 +48,11 @@ public class AddCommand extends Command {
         toAdd = person;
     }
 
+    @Override
+    public boolean requiresEventBook() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command reads or changes events, so it must wait until the event book is loaded.
+     */
+    public boolean requiresEventBook() {
+        return true;
+    }
+
 }
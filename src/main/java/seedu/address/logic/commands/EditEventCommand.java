@@ -84,9 +84,7 @@ public class EditEventCommand extends Command {
         EventName updatedName = editEventDescriptor.getName().orElse(eventToEdit.getEventName());
         EventDate updatedDate = editEventDescriptor.getDate().orElse(eventToEdit.getEventDate());
 
-        Event editedEvent = new Event(updatedName, updatedDate);
-        editedEvent.setPersons(eventToEdit.getPersonList());
-        return editedEvent;
+        return new Event(updatedName, updatedDate, eventToEdit.getAttendees());
     }
 
     @Override
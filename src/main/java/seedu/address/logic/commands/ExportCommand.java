@@ -37,6 +37,11 @@ public class ExportCommand extends Command {
         this.shouldExportAddress = shouldExportAddress;
     }
 
+    @Override
+    public boolean requiresEventBook() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -1,17 +1,24 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameAndTagCombinedPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords and tags.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. The persons matching the name keywords and tags are looked up in the indices
+ * of the model, so names and tags are not compared for every person.
  */
 public class FindCommand extends Command {
 
@@ -20,10 +27,13 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and their tags include all of the specified tags, \n"
             + "and displays them as a list with index numbers.\n"
+            + "Use " + PREFIX_FUZZY_NAME + " instead of " + PREFIX_NAME + " to also match names with words that "
+            + "start with the keywords or have a few typos.\n"
             + "Parameters: "
-            + "[" + PREFIX_NAME + "KEYWORD MORE_KEYWORDS...] "
+            + "[" + PREFIX_NAME + "KEYWORD MORE_KEYWORDS... | " + PREFIX_FUZZY_NAME + "KEYWORD MORE_KEYWORDS...] "
             + "[" + PREFIX_TAG + "TAG]...\n"
-            + "Example: " + COMMAND_WORD + " n/alice bob t/friends t/family";
+            + "Example: " + COMMAND_WORD + " n/alice bob t/friends t/family\n"
+            + "Example: " + COMMAND_WORD + " fn/alce bo";
 
     private final NameAndTagCombinedPredicate predicate;
 
@@ -31,6 +41,11 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean requiresEventBook() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
@@ -50,7 +65,7 @@ public class FindCommand extends Command {
      * @return The result of finding persons in the filtered person list of the selected event.
      */
     public CommandResult findInPersonListOfSelectedEvent(Model model) {
-        model.updateFilteredPersonListOfSelectedEvent(predicate);
+        model.updateFilteredPersonListOfSelectedEvent(resolvePredicate(predicate, model));
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
@@ -65,12 +80,30 @@ public class FindCommand extends Command {
      * @return The result of finding persons in the global filtered person list.
      */
     public CommandResult findInGlobalPersonList(Model model) {
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(resolvePredicate(predicate, model));
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns {@code predicate} with its name keywords and tags looked up in the indices of {@code model}.
+     * The persons found are only looked up until the address book changes, so that the persons added or edited
+     * afterwards are shown if they match the keywords and tags.
+     */
+    public static NameAndTagCombinedPredicate resolvePredicate(NameAndTagCombinedPredicate predicate, Model model) {
+        long version = model.getAddressBook().getVersion();
+        BooleanSupplier isAddressBookUnchanged = () -> model.getAddressBook().getVersion() == version;
+        return predicate.withNamesFoundBy(namePredicate -> findNames(model, namePredicate), isAddressBookUnchanged)
+                .withTagsFoundBy(model::getNamesWithAllTags, isAddressBookUnchanged);
+    }
+
+    private static Set<Name> findNames(Model model, NameContainsKeywordsPredicate namePredicate) {
+        return namePredicate.isFuzzy()
+                ? model.getNamesFuzzyMatchingAnyWord(namePredicate.getKeywords())
+                : model.getNamesContainingAnyWord(namePredicate.getKeywords());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -15,6 +15,11 @@ public class ListCommand extends Command {
     public static final String MESSAGE_SUCCESS_GLOBAL = "Listed all persons in Global List";
     public static final String MESSAGE_SUCCESS_EVENT = "Listed all persons in the Selected Event";
 
+    @Override
+    public boolean requiresEventBook() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -12,6 +13,8 @@ import java.util.Set;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameAndTagCombinedPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -25,34 +28,49 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        return new FindCommand(parsePredicate(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCommand
+     * and returns the predicate that the persons found must satisfy.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public NameAndTagCombinedPredicate parsePredicate(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG);
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_TAG);
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_FUZZY_NAME);
 
-        if (argMultimap.getValue(PREFIX_NAME).isEmpty() && argMultimap.getValue(PREFIX_TAG).isEmpty()) {
+        boolean hasName = argMultimap.getValue(PREFIX_NAME).isPresent();
+        boolean hasFuzzyName = argMultimap.getValue(PREFIX_FUZZY_NAME).isPresent();
+        if ((!hasName && !hasFuzzyName && argMultimap.getValue(PREFIX_TAG).isEmpty()) || (hasName && hasFuzzyName)) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        List<String> nameKeywordsList = null;
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            String trimmedNameArgs = argMultimap.getValue(PREFIX_NAME).get().trim();
-
-            if (trimmedNameArgs.isEmpty()) {
-                throw new ParseException(
-                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
-            }
-
-            nameKeywordsList = Arrays.asList(trimmedNameArgs.split("\\s+"));
+        NameContainsKeywordsPredicate namePredicate = null;
+        if (hasName || hasFuzzyName) {
+            String nameArgs = argMultimap.getValue(hasName ? PREFIX_NAME : PREFIX_FUZZY_NAME).get();
+            namePredicate = new NameContainsKeywordsPredicate(parseNameKeywords(nameArgs), hasFuzzyName);
         }
 
-        Set<Tag> tagList = null;
+        TagContainsKeywordsPredicate tagPredicate = null;
         if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
-            tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+            Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+            tagPredicate = new TagContainsKeywordsPredicate(tagList);
         }
 
-        return new FindCommand(new NameAndTagCombinedPredicate(nameKeywordsList, tagList));
+        return new NameAndTagCombinedPredicate(namePredicate, tagPredicate);
+    }
+
+    private static List<String> parseNameKeywords(String nameArgs) throws ParseException {
+        String trimmedNameArgs = nameArgs.trim();
+        if (trimmedNameArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return Arrays.asList(trimmedNameArgs.split("\\s+"));
     }
 }
@@ -110,7 +110,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -134,7 +134,7 @@ public class ParserUtil {
         if (!EventName.isValidEventName(trimmedEventName)) {
             throw new ParseException(EventName.MESSAGE_CONSTRAINTS);
         }
-        return new EventName(trimmedEventName);
+        return EventName.of(trimmedEventName);
     }
 
     /**
@@ -147,7 +147,7 @@ public class ParserUtil {
             if (!EventDate.isValidDate(trimmedEventDate)) {
                 throw new ParseException(EventDate.MESSAGE_CONSTRAINTS);
             }
-            return new EventDate(trimmedEventDate);
+            return EventDate.of(trimmedEventDate);
         } catch (DateTimeParseException e) {
             throw new ParseException(EventDate.MESSAGE_CONSTRAINTS);
         }
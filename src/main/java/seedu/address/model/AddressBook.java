@@ -2,12 +2,19 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +23,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final ChangeLog<Person> changeLog;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +34,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        changeLog = new ChangeLog<>();
     }
 
     public AddressBook() {}
@@ -45,6 +54,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        // The version changes before the list does, so that listeners of the list see the new version
+        changeLog.reset();
         this.persons.setPersons(persons);
     }
 
@@ -54,7 +65,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        // the persons are the same as those of newData, so they continue its changes
+        changeLog.resetTo(newData.getPersonChangeLog());
+        persons.setPersons(newData.getPersonList());
     }
 
     //// person-level operations
@@ -67,11 +80,45 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the names of the persons in the address book whose name contains any of {@code words}, ignoring case.
+     */
+    public Set<Name> getNamesContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        return persons.getNamesContainingAnyWord(words);
+    }
+
+    /**
+     * Returns the names of the persons in the address book whose name contains a word that starts with any of
+     * {@code keywords} or is within a few typos of it, ignoring case.
+     */
+    public Set<Name> getNamesFuzzyMatchingAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return persons.getNamesFuzzyMatchingAnyWord(keywords);
+    }
+
+    /**
+     * Returns the names of the persons in the address book who have all of {@code tags}.
+     */
+    public Set<Name> getNamesWithAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return persons.getNamesWithAllTags(tags);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        requireNonNull(p);
+        if (persons.contains(p)) {
+            throw new DuplicatePersonException();
+        }
+
+        // Every change is committed before the list is changed, so that listeners of the list, such as the filtered
+        // lists re-testing the changed person, already see the new version
+        changeLog.recordInsert(getPersonList().size(), p);
+        changeLog.commit();
         persons.add(p);
     }
 
@@ -83,6 +130,16 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        int index = persons.indexOf(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        if (!target.isSamePerson(editedPerson) && persons.contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        changeLog.recordSet(index, target, editedPerson);
+        changeLog.commit();
         persons.setPerson(target, editedPerson);
     }
 
@@ -91,6 +148,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        int index = persons.indexOf(key);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+
+        changeLog.recordRemove(index);
+        changeLog.commit();
         persons.remove(key);
     }
 
@@ -108,6 +172,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<Person> getPerson(Name name) {
+        return persons.getPerson(name);
+    }
+
+    @Override
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    @Override
+    public ChangeLog<Person> getPersonChangeLog() {
+        return changeLog;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An unchanging copy of the persons of an address book, which can be read on another thread, such as for a save.
+ * Taking a snapshot only copies the references to the persons, as persons are immutable. The name lookup used by
+ * {@link #getPerson(Name)} is only built when it is first needed, by the thread that reads the snapshot.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ChangeLog<Person> changeLog;
+    private Map<Name, Person> personsByName; // null until first needed
+
+    /**
+     * Creates a snapshot of the current persons of {@code addressBook}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+        changeLog = new ChangeLog<>(addressBook.getPersonChangeLog());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Optional<Person> getPerson(Name name) {
+        if (personsByName == null) {
+            personsByName = new HashMap<>();
+            for (Person person : persons) {
+                personsByName.put(person.getName(), person);
+            }
+        }
+        return Optional.ofNullable(personsByName.get(name));
+    }
+
+    @Override
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    @Override
+    public ChangeLog<Person> getPersonChangeLog() {
+        return changeLog;
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the changes made to a list as they happen, so that the changes since an earlier version of the list
+ * can be found without comparing the list against a copy of it.
+ * <p>
+ * Versions are unique across all logs, so two lists with the same version have the same contents,
+ * even if one of them was copied from the other.
+ * Only the most recent changes are kept, and the changes since older versions are no longer known.
+ *
+ * @param <T> The type of the items in the list.
+ */
+public class ChangeLog<T> {
+
+    /** Maximum number of changes kept before the older ones are forgotten. */
+    static final int MAX_CHANGE_COUNT = 1000;
+
+    private static final AtomicLong lastVersion = new AtomicLong();
+
+    private final List<Change<T>> changes = new ArrayList<>();
+    private final List<Long> versions = new ArrayList<>(); // the versions that the changes are known since
+    private final List<Integer> changeCounts = new ArrayList<>(); // the number of changes made up to each version
+    private long version;
+
+    /**
+     * Creates a log of a list that has not been changed yet.
+     */
+    ChangeLog() {
+        reset();
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied} that is not affected by later changes to it.
+     */
+    ChangeLog(ChangeLog<T> toBeCopied) {
+        resetTo(toBeCopied);
+    }
+
+    /**
+     * Returns the version of the list, which changes with every change to the list.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes made to the list since it had {@code version}, in the order they were made,
+     * or an empty Optional if they are not known.
+     */
+    public Optional<List<Change<T>>> getChangesSince(long version) {
+        int versionIndex = Collections.binarySearch(versions, version);
+        if (versionIndex < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(List.copyOf(changes.subList(changeCounts.get(versionIndex), changes.size())));
+    }
+
+    /**
+     * Records that {@code item} was inserted at {@code index}.
+     */
+    void recordInsert(int index, T item) {
+        requireNonNull(item);
+        changes.add(new Change<>(index, item, null));
+    }
+
+    /**
+     * Records that the item at {@code index} was removed.
+     */
+    void recordRemove(int index) {
+        changes.add(new Change<>(index, null, null));
+    }
+
+    /**
+     * Records that {@code replacedItem}, the item at {@code index}, was replaced by {@code item}.
+     * The replacement is recorded as the removal of {@code replacedItem} followed by the insertion of {@code item}.
+     */
+    void recordSet(int index, T replacedItem, T item) {
+        requireNonNull(replacedItem);
+        changes.add(new Change<>(index, null, replacedItem));
+        recordInsert(index, item);
+    }
+
+    /**
+     * Gives the list a new version that includes the changes recorded since the last version.
+     */
+    void commit() {
+        version = lastVersion.incrementAndGet();
+        if (changes.size() > MAX_CHANGE_COUNT) {
+            changes.clear();
+            versions.clear();
+            changeCounts.clear();
+        }
+        versions.add(version);
+        changeCounts.add(changes.size());
+    }
+
+    /**
+     * Gives the list a new version without any known changes, such as when all of its items are replaced.
+     */
+    void reset() {
+        changes.clear();
+        versions.clear();
+        changeCounts.clear();
+        commit();
+    }
+
+    /**
+     * Replaces this log with a copy of {@code other}, for a list whose items were replaced by those of the list
+     * of {@code other}.
+     */
+    void resetTo(ChangeLog<T> other) {
+        requireNonNull(other);
+        changes.clear();
+        changes.addAll(other.changes);
+        versions.clear();
+        versions.addAll(other.versions);
+        changeCounts.clear();
+        changeCounts.addAll(other.changeCounts);
+        version = other.version;
+    }
+
+    /**
+     * A change to a list: either the insertion of an item at an index, or the removal of the item at an index.
+     * The removed item is known if the removal is part of the replacement of the item.
+     *
+     * @param <T> The type of the items in the list.
+     */
+    public static final class Change<T> {
+
+        private final int index;
+        private final T item; // null for a removal
+        private final T removedItem; // null for an insertion, or if the removed item is not known
+
+        private Change(int index, T item, T removedItem) {
+            this.index = index;
+            this.item = item;
+            this.removedItem = removedItem;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public boolean isInsertion() {
+            return item != null;
+        }
+
+        /**
+         * Returns the inserted item.
+         * This change must be an insertion.
+         */
+        public T getItem() {
+            assert isInsertion();
+            return item;
+        }
+
+        /**
+         * Returns the removed item, if it is known.
+         * This change must be a removal.
+         */
+        public Optional<T> getRemovedItem() {
+            assert !isInsertion();
+            return Optional.ofNullable(removedItem);
+        }
+    }
+}
@@ -3,8 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -12,17 +18,28 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the event-book level.
  * Duplicates are not allowed (by .isSameEvent comparison).
+ * The events in the list are not changed in place. An event whose persons change is replaced by a changed copy,
+ * so that the events taken from the list, such as by a save, are not affected by later changes.
+ * <p>
+ * Copying an event copies the names of its persons, so inviting or removing one person costs time proportional to
+ * the number of persons of the event. This copy is kept on purpose: it is what lets a snapshot for a background save
+ * share the events of the list without locking them, and copying a few thousand names in a hash set takes
+ * microseconds. Everything else done for the change, such as updating the displayed persons of the selected event
+ * and the index of the events of each person, only touches the person that changed.
  */
 public class EventBook implements ReadOnlyEventBook {
 
     private final UniqueEventList events;
     private final UniquePersonList personsOfSelectedEvent;
+    private final Map<Name, Set<Event.IdentityKey>> eventsByPerson; // events that each person is part of
+    private final ChangeLog<Event> changeLog;
     private Event selectedEvent; // null when no event is selected
     private final SimpleObjectProperty<Event> selectedEventObservable;
 
@@ -31,6 +48,8 @@ public class EventBook implements ReadOnlyEventBook {
     {
         events = new UniqueEventList();
         personsOfSelectedEvent = new UniquePersonList();
+        eventsByPerson = new HashMap<>();
+        changeLog = new ChangeLog<>();
         selectedEventObservable = new SimpleObjectProperty<>(selectedEvent);
     }
 
@@ -69,6 +88,12 @@ public class EventBook implements ReadOnlyEventBook {
      */
     public void setEvents(List<Event> events) {
         this.events.setEvents(events);
+        changeLog.reset();
+
+        eventsByPerson.clear();
+        for (Event event : events) {
+            indexAttendeesOf(event);
+        }
     }
 
     /**
@@ -79,6 +104,20 @@ public class EventBook implements ReadOnlyEventBook {
     public void resetData(ReadOnlyEventBook newData) {
         requireNonNull(newData);
         setEvents(newData.getEventList());
+        // the events are the same as those of newData, so they continue its changes
+        changeLog.resetTo(newData.getEventChangeLog());
+    }
+
+    /**
+     * Records that the events of this event book are the same as those of {@code eventBook}, such as after all of
+     * its events were added one batch at a time, so that later changes continue the changes of {@code eventBook}.
+     *
+     * @param eventBook The event book with the same events.
+     */
+    public void continueChangesOf(ReadOnlyEventBook eventBook) {
+        requireNonNull(eventBook);
+        assert events.asUnmodifiableObservableList().equals(eventBook.getEventList());
+        changeLog.resetTo(eventBook.getEventChangeLog());
     }
 
     // Event-level operations
@@ -102,6 +141,25 @@ public class EventBook implements ReadOnlyEventBook {
     public void addEvent(Event event) {
         assert event != null;
         events.add(event);
+        changeLog.recordInsert(events.indexOf(event), event);
+        changeLog.commit();
+        indexAttendeesOf(event);
+    }
+
+    /**
+     * Adds events to the end of the event book at once.
+     * The events must not already exist in the event book, and must not contain duplicate events.
+     *
+     * @param events The events to be added.
+     */
+    public void addEvents(List<Event> events) {
+        assert events != null;
+        this.events.addAll(events);
+        for (Event event : events) {
+            changeLog.recordInsert(this.events.indexOf(event), event);
+            indexAttendeesOf(event);
+        }
+        changeLog.commit();
     }
 
     /**
@@ -113,7 +171,14 @@ public class EventBook implements ReadOnlyEventBook {
     public void setEvent(Event target, Event editedEvent) {
         assert target != null;
         assert editedEvent != null;
+        int index = events.indexOf(target);
+        // target may only have the identity of the event in the list, which is the event that is replaced
+        Event replacedEvent = events.getEvent(target.getIdentityKey()).orElse(target);
         events.setEvent(target, editedEvent);
+        changeLog.recordSet(index, replacedEvent, editedEvent);
+        changeLog.commit();
+        unindexAttendeesOf(target);
+        indexAttendeesOf(editedEvent);
     }
 
     /**
@@ -122,8 +187,12 @@ public class EventBook implements ReadOnlyEventBook {
      * @param event The event to be removed.
      */
     public void removeEvent(Event event) {
-        assert event != null;;
+        assert event != null;
+        int index = events.indexOf(event);
         events.remove(event);
+        changeLog.recordRemove(index);
+        changeLog.commit();
+        unindexAttendeesOf(event);
     }
 
     // Select Event Methods
@@ -141,13 +210,15 @@ public class EventBook implements ReadOnlyEventBook {
      * Selects an event from the event book.
      *
      * @param event The event to be selected.
+     * @param addressBook The address book that the persons of the event are resolved against.
      */
-    public void selectEvent(Event event) {
+    public void selectEvent(Event event, ReadOnlyAddressBook addressBook) {
         assert event != null;
+        assert addressBook != null;
         selectedEvent = event;
         selectedEventObservable.set(event);
 
-        updatePersonListOfSelectedEvent();
+        personsOfSelectedEvent.setPersons(getPersonsOfSelectedEvent(addressBook));
     }
 
     /**
@@ -157,7 +228,7 @@ public class EventBook implements ReadOnlyEventBook {
         selectedEvent = null;
         selectedEventObservable.set(null);
 
-        updatePersonListOfSelectedEvent();
+        personsOfSelectedEvent.setPersons(new ArrayList<>());
     }
 
     /**
@@ -182,8 +253,10 @@ public class EventBook implements ReadOnlyEventBook {
         assert(isAnEventSelected());
 
         if (isAnEventSelected()) {
-            selectedEvent.addPerson(person);
-            updatePersonListOfSelectedEvent();
+            updateEvent(selectedEvent, event -> event.addPerson(person));
+            changeLog.commit();
+            personsOfSelectedEvent.add(person);
+            index(person.getName(), selectedEvent);
         }
 
     }
@@ -197,33 +270,178 @@ public class EventBook implements ReadOnlyEventBook {
         assert(isAnEventSelected());
 
         if (isAnEventSelected()) {
-            selectedEvent.deletePerson(person);
-            updatePersonListOfSelectedEvent();
+            updateEvent(selectedEvent, event -> event.deletePerson(person));
+            changeLog.commit();
+            personsOfSelectedEvent.remove(person);
+            unindex(person.getName(), selectedEvent);
         }
     }
 
     /**
      * Replaces an existing person in all events with a new person.
+     * Events only refer to persons by name, so they are only updated if the name of the person changed,
+     * and only the events that the person is part of are visited.
      *
      * @param target      The person to be replaced.
      * @param editedPerson The replacement person.
      */
     public void editPersonInAllEvents(Person target, Person editedPerson) {
-        for (Iterator<Event> it = events.iterator(); it.hasNext();) {
-            Event event = it.next();
-            if (event.hasPerson(target)) {
-                event.setPerson(target, editedPerson);
+        if (!target.isSamePerson(editedPerson)) {
+            Set<Event.IdentityKey> eventsOfTarget = eventsByPerson.remove(target.getName());
+            if (eventsOfTarget != null) {
+                for (Event.IdentityKey eventOfTarget : eventsOfTarget) {
+                    updateEvent(getEvent(eventOfTarget), event -> event.setPerson(target, editedPerson));
+                }
+                eventsByPerson.put(editedPerson.getName(), eventsOfTarget);
+                changeLog.commit();
+            }
+        }
+
+        if (personsOfSelectedEvent.contains(target)) {
+            personsOfSelectedEvent.setPerson(target, editedPerson);
+        }
+    }
+
+    /**
+     * Removes a person from all events that the person is part of.
+     *
+     * @param person The person to be removed.
+     */
+    public void deletePersonFromAllEvents(Person person) {
+        Set<Event.IdentityKey> eventsOfPerson = eventsByPerson.remove(person.getName());
+        if (eventsOfPerson != null) {
+            for (Event.IdentityKey eventOfPerson : eventsOfPerson) {
+                updateEvent(getEvent(eventOfPerson), event -> event.deletePerson(person));
+            }
+            changeLog.commit();
+        }
+
+        if (personsOfSelectedEvent.contains(person)) {
+            personsOfSelectedEvent.remove(person);
+        }
+    }
+
+    /**
+     * Removes from every event the persons that do not exist in {@code addressBook}.
+     * Only to be used when the persons left out of {@code addressBook} have been deleted, as the names of persons
+     * that merely could not be loaded must be kept in their events.
+     *
+     * @param addressBook The address book that the persons of the events must be in.
+     */
+    public void retainPersonsIn(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Set<Name> removedAttendees = new HashSet<>();
+        Set<Event.IdentityKey> eventsOfRemovedAttendees = new LinkedHashSet<>();
+        for (Map.Entry<Name, Set<Event.IdentityKey>> entry : eventsByPerson.entrySet()) {
+            if (addressBook.getPerson(entry.getKey()).isEmpty()) {
+                removedAttendees.add(entry.getKey());
+                eventsOfRemovedAttendees.addAll(entry.getValue());
+            }
+        }
+
+        if (!removedAttendees.isEmpty()) {
+            eventsByPerson.keySet().removeAll(removedAttendees);
+            for (Event.IdentityKey eventOfRemovedAttendees : eventsOfRemovedAttendees) {
+                updateEvent(getEvent(eventOfRemovedAttendees),
+                        event -> event.removePersonsIf(removedAttendees::contains));
+            }
+            changeLog.commit();
+        }
+
+        updatePersonsOfSelectedEvent(addressBook);
+    }
+
+    /**
+     * Resolves the persons of the selected event against {@code addressBook} again, if an event is selected.
+     *
+     * @param addressBook The address book that the persons of the selected event are resolved against.
+     */
+    public void updatePersonsOfSelectedEvent(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (isAnEventSelected()) {
+            // Most persons of the selected event are unchanged, so only the changed persons are updated
+            personsOfSelectedEvent.updatePersons(getPersonsOfSelectedEvent(addressBook));
+        }
+    }
+
+    /**
+     * Returns the events that {@code person} is part of, in the order that the person was added to them.
+     *
+     * @param person The person whose events are returned.
+     * @return An unmodifiable set of the events of the person.
+     */
+    public Set<Event> getEventsOfPerson(Person person) {
+        requireNonNull(person);
+        Set<Event.IdentityKey> eventsOfPerson = eventsByPerson.get(person.getName());
+        if (eventsOfPerson == null) {
+            return Collections.emptySet();
+        }
+
+        Set<Event> resolvedEvents = new LinkedHashSet<>();
+        for (Event.IdentityKey eventOfPerson : eventsOfPerson) {
+            resolvedEvents.add(getEvent(eventOfPerson));
+        }
+        return Collections.unmodifiableSet(resolvedEvents);
+    }
+
+    /**
+     * Replaces {@code event} in the list with a copy of it that is changed by {@code change}.
+     * The replacement is recorded in the change log, but not committed.
+     */
+    private void updateEvent(Event event, Consumer<Event> change) {
+        Event updatedEvent = new Event(event);
+        change.accept(updatedEvent);
+
+        int index = events.indexOf(event);
+        events.setEvent(event, updatedEvent);
+        changeLog.recordSet(index, event, updatedEvent);
+        if (updatedEvent.equals(selectedEvent)) {
+            selectedEvent = updatedEvent;
+            selectedEventObservable.set(updatedEvent);
+        }
+    }
+
+    private Event getEvent(Event.IdentityKey identityKey) {
+        return events.getEvent(identityKey).orElseThrow();
+    }
+
+    private void indexAttendeesOf(Event event) {
+        for (Name attendee : event.getAttendees()) {
+            index(attendee, event);
+        }
+    }
+
+    private void unindexAttendeesOf(Event event) {
+        for (Name attendee : event.getAttendees()) {
+            unindex(attendee, event);
+        }
+    }
+
+    private void index(Name attendee, Event event) {
+        eventsByPerson.computeIfAbsent(attendee, unused -> new LinkedHashSet<>()).add(event.getIdentityKey());
+    }
+
+    private void unindex(Name attendee, Event event) {
+        Set<Event.IdentityKey> eventsOfAttendee = eventsByPerson.get(attendee);
+        if (eventsOfAttendee != null) {
+            eventsOfAttendee.remove(event.getIdentityKey());
+            if (eventsOfAttendee.isEmpty()) {
+                eventsByPerson.remove(attendee);
             }
         }
-        updatePersonListOfSelectedEvent();
     }
 
-    private void updatePersonListOfSelectedEvent() {
-        if (selectedEvent != null) {
-            personsOfSelectedEvent.setPersons(selectedEvent.getPersonList());
-        } else {
-            personsOfSelectedEvent.setPersons(new ArrayList<>());
+    /**
+     * Returns the persons of the selected event in {@code addressBook}.
+     * Attendees that are not in {@code addressBook}, such as when the address book could not be loaded, stay in the
+     * event but are not shown.
+     */
+    private List<Person> getPersonsOfSelectedEvent(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = new ArrayList<>();
+        for (Name attendee : selectedEvent.getAttendees()) {
+            addressBook.getPerson(attendee).ifPresent(persons::add);
         }
+        return persons;
     }
 
     // Util methods
@@ -250,6 +468,16 @@ public class EventBook implements ReadOnlyEventBook {
         return personsOfSelectedEvent.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    @Override
+    public ChangeLog<Event> getEventChangeLog() {
+        return changeLog;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * An unchanging copy of the events of an event book, which can be read on another thread, such as for a save.
+ * Taking a snapshot only copies the references to the events, as the event book replaces an event whose persons
+ * change instead of changing it in place. No event is selected in a snapshot.
+ */
+public class EventBookSnapshot implements ReadOnlyEventBook {
+
+    private final ObservableList<Event> events;
+    private final ChangeLog<Event> changeLog;
+
+    /**
+     * Creates a snapshot of the current events of {@code eventBook}.
+     */
+    public EventBookSnapshot(ReadOnlyEventBook eventBook) {
+        requireNonNull(eventBook);
+        events = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(eventBook.getEventList())));
+        changeLog = new ChangeLog<>(eventBook.getEventChangeLog());
+    }
+
+    @Override
+    public ObservableValue<Event> getSelectedEvent() {
+        return new SimpleObjectProperty<>();
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonsOfSelectedEventList() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    @Override
+    public ChangeLog<Event> getEventChangeLog() {
+        return changeLog;
+    }
+}
@@ -2,13 +2,18 @@ package seedu.address.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -59,6 +64,7 @@ public interface Model {
 
     /**
      * Replaces address book data with the data in {@code addressBook}.
+     * Persons that are no longer in the address book are removed from every event.
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
@@ -79,7 +85,7 @@ public interface Model {
     boolean hasPerson(Person person);
 
     /**
-     * Deletes the given person.
+     * Deletes the given person from the address book and from every event.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
@@ -97,6 +103,25 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the names of the persons in the address book whose name contains any of {@code words}, ignoring case.
+     * The names are looked up in an index, without scanning the address book.
+     */
+    Set<Name> getNamesContainingAnyWord(Collection<String> words);
+
+    /**
+     * Returns the names of the persons in the address book whose name contains a word that starts with any of
+     * {@code keywords} or is within a few typos of it, ignoring case.
+     * The names are found by walking a trie of the words in the names, without scanning the address book.
+     */
+    Set<Name> getNamesFuzzyMatchingAnyWord(Collection<String> keywords);
+
+    /**
+     * Returns the names of the persons in the address book who have all of {@code tags}.
+     * The names are found by intersecting the bitmaps of the tags in an index, without scanning the address book.
+     */
+    Set<Name> getNamesWithAllTags(Collection<Tag> tags);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -185,6 +210,52 @@ public interface Model {
      */
     void deletePersonFromSelectedEvent(Person person);
 
+    /**
+     * Returns the events that a person is part of.
+     *
+     * @param person The person whose events are returned.
+     * @return An unmodifiable view of the events that the person is part of.
+     */
+    Set<Event> getEventsOfPerson(Person person);
+
+    /**
+     * Empties the event book and marks it as loading, so that its events can be added as they are loaded with
+     * {@link #addLoadedEvents(List)}, while the rest of the app is already in use.
+     */
+    void startLoadingEventBook();
+
+    /**
+     * Adds the next {@code events} loaded into the event book. They must be distinct from the events already added.
+     */
+    void addLoadedEvents(List<Event> events);
+
+    /**
+     * Marks the event book as loaded, after all the events of {@code loadedEventBook} have been added with
+     * {@link #addLoadedEvents(List)}.
+     */
+    void finishLoadingEventBook(ReadOnlyEventBook loadedEventBook);
+
+    /**
+     * Marks the event book as loaded without any events, after the event book being loaded could not be read.
+     * The event book is not saved from then on, so that the data file that could not be read is not overwritten.
+     */
+    void failLoadingEventBook();
+
+    /**
+     * Returns true if the event book can be saved, that is, it is loaded and did not fail to load.
+     */
+    boolean canSaveEventBook();
+
+    /**
+     * Returns true if the event book is loaded, that is, not being loaded with {@link #startLoadingEventBook()}.
+     */
+    boolean isEventBookLoaded();
+
+    /**
+     * Returns whether the event book is loaded, as an observable value.
+     */
+    ObservableValue<Boolean> getEventBookLoaded();
+
     /**
      * Returns an unmodifiable view of the selected event
      *
@@ -5,9 +5,14 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -16,7 +21,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.export.PersonDataExporter;
 import seedu.address.export.PersonExporter;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -31,6 +38,8 @@ public class ModelManager implements Model {
     private final FilteredList<Event> filteredEvents;
     private final FilteredList<Person> filteredPersonsOfSelectedEvent;
     private final FilteredList<Person> filteredPersons;
+    private final BooleanProperty isEventBookLoaded = new SimpleBooleanProperty(true);
+    private boolean hasEventBookFailedToLoad = false;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -107,6 +116,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        // The persons left out of the new address book are deleted, so they are also removed from their events
+        eventBook.retainPersonsIn(this.addressBook);
     }
 
     @Override
@@ -123,11 +134,16 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        eventBook.deletePersonFromAllEvents(target);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        if (eventBook.isPersonInSelectedEvent(person)) {
+            // the name of the person was already an attendee of the selected event, but could not be resolved
+            eventBook.updatePersonsOfSelectedEvent(addressBook);
+        }
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -139,6 +155,24 @@ public class ModelManager implements Model {
         eventBook.editPersonInAllEvents(target, editedPerson);
     }
 
+    @Override
+    public Set<Name> getNamesContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        return addressBook.getNamesContainingAnyWord(words);
+    }
+
+    @Override
+    public Set<Name> getNamesFuzzyMatchingAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getNamesFuzzyMatchingAnyWord(keywords);
+    }
+
+    @Override
+    public Set<Name> getNamesWithAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.getNamesWithAllTags(tags);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -180,6 +214,7 @@ public class ModelManager implements Model {
     @Override
     public void setEventBook(ReadOnlyEventBook eventBook) {
         this.eventBook.resetData(eventBook);
+        this.eventBook.updatePersonsOfSelectedEvent(addressBook);
     }
 
     @Override
@@ -225,7 +260,7 @@ public class ModelManager implements Model {
     @Override
     public void selectEvent(Event event) {
         requireNonNull(event);
-        eventBook.selectEvent(event);
+        eventBook.selectEvent(event, addressBook);
         updateFilteredPersonListOfSelectedEvent(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -254,6 +289,55 @@ public class ModelManager implements Model {
         eventBook.deletePersonFromSelectedEvent(person);
     }
 
+    @Override
+    public Set<Event> getEventsOfPerson(Person person) {
+        requireNonNull(person);
+        return eventBook.getEventsOfPerson(person);
+    }
+
+    @Override
+    public void startLoadingEventBook() {
+        eventBook.resetData(new EventBook());
+        hasEventBookFailedToLoad = false;
+        isEventBookLoaded.set(false);
+    }
+
+    @Override
+    public void addLoadedEvents(List<Event> events) {
+        requireNonNull(events);
+        assert !isEventBookLoaded.get();
+        eventBook.addEvents(events);
+    }
+
+    @Override
+    public void finishLoadingEventBook(ReadOnlyEventBook loadedEventBook) {
+        requireNonNull(loadedEventBook);
+        eventBook.continueChangesOf(loadedEventBook);
+        isEventBookLoaded.set(true);
+    }
+
+    @Override
+    public void failLoadingEventBook() {
+        eventBook.resetData(new EventBook());
+        hasEventBookFailedToLoad = true;
+        isEventBookLoaded.set(true);
+    }
+
+    @Override
+    public boolean canSaveEventBook() {
+        return isEventBookLoaded.get() && !hasEventBookFailedToLoad;
+    }
+
+    @Override
+    public boolean isEventBookLoaded() {
+        return isEventBookLoaded.get();
+    }
+
+    @Override
+    public ObservableValue<Boolean> getEventBookLoaded() {
+        return isEventBookLoaded;
+    }
+
     //=========== Filtered Event List and Person List of Selected Event Accessors ====================================
 
     @Override
@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +17,20 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the person whose name is {@code name}, or {@code Optional.empty()} if there is no such person.
+     */
+    Optional<Person> getPerson(Name name);
+
+    /**
+     * Returns the version of the data in this address book.
+     * The version changes whenever the data changes, so an unchanged version means there is nothing new to save.
+     */
+    long getVersion();
+
+    /**
+     * Returns the log of the changes made to the persons list, which can only be read outside of the model.
+     */
+    ChangeLog<Person> getPersonChangeLog();
+
 }
@@ -27,4 +27,16 @@ public interface ReadOnlyEventBook {
      * This list is empty when no event is currently selected.
      */
     ObservableList<Person> getPersonsOfSelectedEventList();
+
+    /**
+     * Returns the version of the data in this event book.
+     * The version changes whenever the events or their persons change, but not when the selected event changes.
+     */
+    long getVersion();
+
+    /**
+     * Returns the log of the changes made to the events list, which can only be read outside of the model.
+     * Changes to the persons of an event are logged as the replacement of the event.
+     */
+    ChangeLog<Event> getEventChangeLog();
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -15,4 +16,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getEventBookFilePath();
 
+    /**
+     * Returns the format that the address book and event book are stored in.
+     * The data files of a format other than {@link StorageFormat#JSON} are at the file paths above,
+     * with their extension replaced as in {@link StorageFormat#toFilePath(Path)}.
+     */
+    StorageFormat getStorageFormat();
+
 }
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -16,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path eventBookFilePath = Paths.get("data", "eventBook.json");
+    private StorageFormat storageFormat = StorageFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +40,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setEventBookFilePath(newUserPrefs.getEventBookFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -68,6 +71,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.eventBookFilePath = eventBookFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -82,12 +94,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && eventBookFilePath.equals(otherUserPrefs.eventBookFilePath);
+                && eventBookFilePath.equals(otherUserPrefs.eventBookFilePath)
+                && storageFormat.equals(otherUserPrefs.storageFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, eventBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, eventBookFilePath, storageFormat);
     }
 
     @Override
@@ -96,6 +109,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\n" + eventBookFilePath);
+        sb.append("\nStorage format : " + storageFormat);
         return sb.toString();
     }
 
@@ -3,47 +3,67 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Represents an Event in the event book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The persons of an event are not stored in the event itself. Instead, the event keeps the {@code Name} of each
+ * person, which identifies the person in the address book (see {@code Person#isSamePerson(Person)}), and the
+ * {@code Person} objects are resolved against the address book when they are needed.
  */
 public class Event {
 
     private final EventName eventName;
 
     private final EventDate eventDate;
-    private final UniquePersonList persons;
+    private final IdentityKey identityKey;
+    private final Set<Name> attendees = new LinkedHashSet<>();
 
     /**
      * Every field must be present and not null.
      */
     public Event(EventName eventName, EventDate eventDate) {
         requireAllNonNull(eventName, eventDate);
-        this.eventName = eventName;
-        this.eventDate = eventDate;
-        persons = new UniquePersonList();
+        this.eventName = eventName.intern();
+        this.eventDate = eventDate.intern();
+        this.identityKey = new IdentityKey(this.eventName, this.eventDate);
     }
 
     /**
      * Every field must be present and not null.
-     * @param eventName
-     * @param persons
+     * {@code attendees} are the names of the persons of the event and must not contain duplicates.
      */
-    public Event(EventName eventName, EventDate eventDate, UniquePersonList persons) {
-        requireAllNonNull(eventName, persons);
-        this.eventName = eventName;
-        this.eventDate = eventDate;
+    public Event(EventName eventName, EventDate eventDate, Collection<Name> attendees) {
+        this(eventName, eventDate);
+        requireAllNonNull(attendees);
+        for (Name attendee : attendees) {
+            if (!this.attendees.add(attendee)) {
+                throw new DuplicatePersonException();
+            }
+        }
+    }
 
-        this.persons = new UniquePersonList();
-        this.persons.setPersons(persons);
+    /**
+     * Creates a copy of {@code toCopy}, whose persons can be changed without changing {@code toCopy}.
+     * Copying takes time proportional to the number of persons of the event, as the names of the persons are copied
+     * without checking them for duplicates again.
+     */
+    public Event(Event toCopy) {
+        this(toCopy.eventName, toCopy.eventDate);
+        attendees.addAll(toCopy.attendees);
     }
 
     public EventName getEventName() {
@@ -54,23 +74,22 @@ public class Event {
         return eventDate;
     }
 
-
-    //// person-level operations
-
     /**
-     * Replaces the contents of the person list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * Returns the fields compared by {@link #isSameEvent(Event)}, as a key for hashed collections.
      */
-    public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+    public IdentityKey getIdentityKey() {
+        return identityKey;
     }
 
+
+    //// person-level operations
+
     /**
-     * Returns true if a person with the same identity as {@code person} exists in the address book.
+     * Returns true if a person with the same identity as {@code p} is in the event.
      */
     public boolean hasPerson(Person p) {
         requireNonNull(p);
-        return persons.contains(p);
+        return attendees.contains(p.getName());
     }
 
     /**
@@ -79,32 +98,64 @@ public class Event {
      */
     public void addPerson(Person p) {
         requireNonNull(p);
-        persons.add(p);
+        if (!attendees.add(p.getName())) {
+            throw new DuplicatePersonException();
+        }
     }
 
     /**
-     * Deletes a person to the event.
+     * Deletes a person from the event.
      * The person must already exist in the event.
      */
     public void deletePerson(Person p) {
         requireNonNull(p);
-        persons.remove(p);
+        if (!attendees.remove(p.getName())) {
+            throw new PersonNotFoundException();
+        }
     }
 
     /**
-     * Replaces the given person {@code target} in the list with {@code editedPerson}.
-     * {@code target} must exist in the address book.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * Replaces the given person {@code target} in the event with {@code editedPerson}.
+     * {@code target} must exist in the event.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the event.
      */
     public void setPerson(Person target, Person editedPerson) {
-        requireNonNull(editedPerson);
-        persons.setPerson(target, editedPerson);
+        requireAllNonNull(target, editedPerson);
+        if (!hasPerson(target)) {
+            throw new PersonNotFoundException();
+        }
+        if (target.isSamePerson(editedPerson)) {
+            // the event only refers to the person by name, so there is nothing to update
+            return;
+        }
+        if (hasPerson(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        // rebuild the set so that the renamed person keeps its position
+        Set<Name> renamedAttendees = new LinkedHashSet<>();
+        for (Name attendee : attendees) {
+            renamedAttendees.add(attendee.equals(target.getName()) ? editedPerson.getName() : attendee);
+        }
+        attendees.clear();
+        attendees.addAll(renamedAttendees);
+    }
+
+    /**
+     * Removes from the event the persons whose names satisfy {@code predicate}.
+     */
+    public void removePersonsIf(Predicate<Name> predicate) {
+        requireNonNull(predicate);
+        attendees.removeIf(predicate);
     }
 
     //// util methods
 
-    public ObservableList<Person> getPersonList() {
-        return persons.asUnmodifiableObservableList();
+    /**
+     * Returns the names of the persons of the event, in the order they were added, as an unmodifiable set.
+     */
+    public Set<Name> getAttendees() {
+        return Collections.unmodifiableSet(attendees);
     }
 
     /**
@@ -117,8 +168,7 @@ public class Event {
         }
 
         return otherEvent != null
-                && otherEvent.getEventName().equals(getEventName())
-                && otherEvent.getEventDate().equals(getEventDate());
+                && otherEvent.identityKey.equals(identityKey);
     }
 
     /**
@@ -137,13 +187,12 @@ public class Event {
         }
 
         Event otherEvent = (Event) other;
-        return eventName.equals(otherEvent.eventName) && eventDate.equals(otherEvent.eventDate);
+        return identityKey.equals(otherEvent.identityKey);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(eventName, eventDate);
+        return identityKey.hashCode();
     }
 
     @Override
@@ -153,4 +202,43 @@ public class Event {
                     .add("Date:", eventDate)
                     .toString();
     }
+
+    /**
+     * The fields compared by {@link Event#isSameEvent(Event)}, whose hash code is computed once.
+     * The name and date of an event are immutable, so the key of an event never changes.
+     */
+    public static final class IdentityKey {
+        private final EventName eventName;
+        private final EventDate eventDate;
+        private final int hashCode;
+
+        private IdentityKey(EventName eventName, EventDate eventDate) {
+            this.eventName = eventName;
+            this.eventDate = eventDate;
+            // use this method for custom fields hashing instead of implementing your own
+            this.hashCode = Objects.hash(eventName, eventDate);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return hashCode == otherKey.hashCode
+                    && eventName.equals(otherKey.eventName)
+                    && eventDate.equals(otherKey.eventDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -6,6 +6,10 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
 
 /**
  * Represents an Event's date.
@@ -17,10 +21,13 @@ public class EventDate {
             "Date should be in dd-MM-yyyy format";
 
     public static final String VALIDATION_REGEX = "^([0-2][0-9]|3[0-1])-(0[1-9]|1[0-2])-(\\d{4})$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu")
             .withResolverStyle(ResolverStyle.STRICT);
 
+    private static final Interner<EventDate> INTERNER = new Interner<>();
+
     public final LocalDate eventDate;
 
     /**
@@ -29,16 +36,39 @@ public class EventDate {
      * @param eventDate A valid date.
      */
     public EventDate(String eventDate) {
-        checkArgument(isValidDate(eventDate), MESSAGE_CONSTRAINTS);
-        this.eventDate = parseEventDate(eventDate);
+        // The date is parsed once, both to validate it and to construct it
+        Optional<LocalDate> parsedDate = parseIfValid(eventDate);
+        checkArgument(parsedDate.isPresent(), MESSAGE_CONSTRAINTS);
+        this.eventDate = parsedDate.get();
+    }
+
+    /**
+     * Returns the canonical {@code EventDate} of the date {@code eventDate}.
+     *
+     * @param eventDate A valid date.
+     */
+    public static EventDate of(String eventDate) {
+        return new EventDate(eventDate).intern();
+    }
+
+    /**
+     * Returns the canonical {@code EventDate} equal to this date.
+     */
+    public EventDate intern() {
+        return INTERNER.intern(this);
     }
 
-    private static LocalDate parseEventDate(String eventDate) {
+    /**
+     * Returns the date that {@code test} represents, or an empty {@code Optional} if it is not a valid date.
+     */
+    private static Optional<LocalDate> parseIfValid(String test) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
+            return Optional.empty();
+        }
         try {
-            // Directly parse the string with the formatter that supports both date and optional time
-            return LocalDate.parse(eventDate, DATE_TIME_FORMATTER);
+            return Optional.of(LocalDate.parse(test, DATE_TIME_FORMATTER));
         } catch (DateTimeParseException ex) {
-            throw new IllegalArgumentException("Date format should be dd-MM-yyyy", ex);
+            return Optional.empty();
         }
     }
 
@@ -48,15 +78,7 @@ public class EventDate {
      * @param test An input date.
      */
     public static boolean isValidDate(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-        try {
-            LocalDate.parse(test, DATE_TIME_FORMATTER);
-            return true;
-        } catch (DateTimeParseException ex) {
-            return false;
-        }
+        return parseIfValid(test).isPresent();
     }
 
     @Override
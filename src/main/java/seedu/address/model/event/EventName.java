@@ -3,6 +3,9 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Event's name.
  * Guarantees: immutable
@@ -18,6 +21,8 @@ public class EventName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<EventName> INTERNER = new Interner<>();
+
     public final String eventName;
 
     /**
@@ -31,11 +36,27 @@ public class EventName {
         this.eventName = eventName;
     }
 
+    /**
+     * Returns the canonical {@code EventName} with the name {@code eventName}.
+     *
+     * @param eventName A valid name.
+     */
+    public static EventName of(String eventName) {
+        return new EventName(eventName).intern();
+    }
+
+    /**
+     * Returns the canonical {@code EventName} equal to this name.
+     */
+    public EventName intern() {
+        return INTERNER.intern(this);
+    }
+
     /**
      * Returns true if a given string is a valid event name.
      */
     public static boolean isValidEventName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWithSpaces(test);
     }
 
     @Override
@@ -3,8 +3,11 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +22,9 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * However, the removal of an event uses Event#equals(Object) so as to ensure that the event with exactly the same
  * fields will be removed.
  * <p>
+ * The position of every event in the list is also kept in a hash index keyed on the event identity (name and date),
+ * so that identity lookups do not have to scan the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
@@ -28,13 +34,37 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Event.IdentityKey, Integer> indexByIdentity = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return indexByIdentity.containsKey(toCheck.getIdentityKey());
+    }
+
+    /**
+     * Returns the position of {@code toFind} in the list, or -1 if the list does not contain an event
+     * equal to {@code toFind}.
+     */
+    public int indexOf(Event toFind) {
+        requireNonNull(toFind);
+        Integer index = indexByIdentity.get(toFind.getIdentityKey());
+        if (index == null || !internalList.get(index).equals(toFind)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the event in the list whose identity is {@code identityKey}, or {@code Optional.empty()} if there is
+     * no such event.
+     */
+    public Optional<Event> getEvent(Event.IdentityKey identityKey) {
+        requireNonNull(identityKey);
+        Integer index = indexByIdentity.get(identityKey);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -46,9 +76,27 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
+        indexByIdentity.put(toAdd.getIdentityKey(), internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list at once, so that observers of the list are notified once.
+     * The events must not already exist in the list, and must not contain duplicate events.
+     */
+    public void addAll(List<Event> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Event.IdentityKey, Integer> addedIndex = new HashMap<>();
+        for (int i = 0; i < toAdd.size(); i++) {
+            Event.IdentityKey key = toAdd.get(i).getIdentityKey();
+            if (indexByIdentity.containsKey(key) || addedIndex.putIfAbsent(key, internalList.size() + i) != null) {
+                throw new DuplicateEventException();
+            }
+        }
+        indexByIdentity.putAll(addedIndex);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
@@ -57,13 +105,17 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
 
-        if (!target.isSameEvent(editedEvent) && contains(editedEvent)) {
-            throw new DuplicateEventException();
+        if (!target.isSameEvent(editedEvent)) {
+            if (contains(editedEvent)) {
+                throw new DuplicateEventException();
+            }
+            indexByIdentity.remove(target.getIdentityKey());
+            indexByIdentity.put(editedEvent.getIdentityKey(), index);
         }
 
         internalList.set(index, editedEvent);
@@ -75,13 +127,23 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+
+        internalList.remove(index);
+        indexByIdentity.remove(toRemove.getIdentityKey());
+        // events after the removed one have shifted one position to the left
+        for (int i = index; i < internalList.size(); i++) {
+            indexByIdentity.put(internalList.get(i).getIdentityKey(), i);
+        }
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
+        indexByIdentity.clear();
+        indexByIdentity.putAll(replacement.indexByIdentity);
         internalList.setAll(replacement.internalList);
     }
 
@@ -91,10 +153,13 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
+        Map<Event.IdentityKey, Integer> replacementIndex = buildIndex(events);
+        if (replacementIndex == null) {
             throw new DuplicateEventException();
         }
 
+        indexByIdentity.clear();
+        indexByIdentity.putAll(replacementIndex);
         internalList.setAll(events);
     }
 
@@ -138,16 +203,15 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns the identity index of {@code events}, or null if {@code events} contains duplicate events.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+    private static Map<Event.IdentityKey, Integer> buildIndex(List<Event> events) {
+        Map<Event.IdentityKey, Integer> index = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (index.putIfAbsent(events.get(i).getIdentityKey(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import seedu.address.model.tag.Tag;
@@ -37,6 +39,44 @@ public class NameAndTagCombinedPredicate implements Predicate<Person> {
         this.tagPredicate = tagPredicate;
     }
 
+    /**
+     * Returns a predicate with the same criteria that tests names by looking them up in the names that
+     * {@code nameFinder} returns for the name predicate, instead of splitting every name.
+     * The names are only looked up while {@code areNamesCurrent} returns true, and tested directly afterwards.
+     *
+     * @param nameFinder Returns the names of the persons that match the given name predicate.
+     * @param areNamesCurrent Returns true while the persons that the names were found in have not changed.
+     * @return The predicate that looks up names, or this predicate if there is no name filtering.
+     */
+    public NameAndTagCombinedPredicate withNamesFoundBy(
+            Function<NameContainsKeywordsPredicate, Set<Name>> nameFinder, BooleanSupplier areNamesCurrent) {
+        if (namePredicate == null) {
+            return this;
+        }
+        Set<Name> matchingNames = nameFinder.apply(namePredicate);
+        return new NameAndTagCombinedPredicate(namePredicate.withMatchingNames(matchingNames, areNamesCurrent),
+                tagPredicate);
+    }
+
+    /**
+     * Returns a predicate with the same criteria that tests tags by looking up names in the names that
+     * {@code nameFinder} returns for the tag keywords, instead of comparing the tags of every person.
+     * The names are only looked up while {@code areNamesCurrent} returns true, and tags compared afterwards.
+     *
+     * @param nameFinder Returns the names of the persons who have all of the given tags.
+     * @param areNamesCurrent Returns true while the persons that the names were found in have not changed.
+     * @return The predicate that looks up names, or this predicate if there is no tag filtering.
+     */
+    public NameAndTagCombinedPredicate withTagsFoundBy(Function<Set<Tag>, Set<Name>> nameFinder,
+            BooleanSupplier areNamesCurrent) {
+        if (tagPredicate == null) {
+            return this;
+        }
+        Set<Name> matchingNames = nameFinder.apply(tagPredicate.getTagKeywords());
+        return new NameAndTagCombinedPredicate(namePredicate,
+                tagPredicate.withMatchingNames(matchingNames, areNamesCurrent));
+    }
+
     /**
      * Tests whether the given {@code Person} matches the combined name and tag criteria.
      *
@@ -1,6 +1,10 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,16 +12,60 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A fuzzy predicate also matches words in the name that start with a keyword or are within a few typos of it.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final boolean isFuzzy;
+    private final Set<Name> matchingNames; // the names known to match the keywords, null if not looked up
+    private final BooleanSupplier areMatchingNamesCurrent;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, false);
+    }
+
+    public NameContainsKeywordsPredicate(List<String> keywords, boolean isFuzzy) {
+        this(keywords, isFuzzy, null, () -> false);
+    }
+
+    private NameContainsKeywordsPredicate(List<String> keywords, boolean isFuzzy, Set<Name> matchingNames,
+            BooleanSupplier areMatchingNamesCurrent) {
         this.keywords = keywords;
+        this.isFuzzy = isFuzzy;
+        this.matchingNames = matchingNames;
+        this.areMatchingNamesCurrent = areMatchingNamesCurrent;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public boolean isFuzzy() {
+        return isFuzzy;
+    }
+
+    /**
+     * Returns a predicate with the same keywords that tests a person by looking up its name in
+     * {@code matchingNames}, the names found to match the keywords in a list of persons, instead of splitting the
+     * name. The names are only looked up while {@code areMatchingNamesCurrent} returns true, which must stop once
+     * the list changes, so that persons added or edited later are tested against the keywords.
+     * Only persons in the list can be tested while the names are looked up.
+     */
+    public NameContainsKeywordsPredicate withMatchingNames(Set<Name> matchingNames,
+            BooleanSupplier areMatchingNamesCurrent) {
+        requireAllNonNull(matchingNames, areMatchingNamesCurrent);
+        return new NameContainsKeywordsPredicate(keywords, isFuzzy, matchingNames, areMatchingNamesCurrent);
     }
 
     @Override
     public boolean test(Person person) {
+        if (matchingNames != null && areMatchingNamesCurrent.getAsBoolean()) {
+            return matchingNames.contains(person.getName());
+        }
+        if (isFuzzy) {
+            return keywords.stream()
+                    .anyMatch(keyword -> NameTokenIndex.containsFuzzyMatchingWord(person.getName().fullName, keyword));
+        }
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
@@ -34,11 +82,12 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherNameContainsKeywordsPredicate.keywords)
+                && isFuzzy == otherNameContainsKeywordsPredicate.isFuzzy;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("isFuzzy", isFuzzy).toString();
     }
 }
@@ -0,0 +1,257 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lower case words in the names of persons to the names that contain them,
+ * so that persons can be found by the words in their names without splitting every name.
+ * <p>
+ * The words are also kept in a trie, so that words starting with a keyword or within a few typos of it are found
+ * by walking the trie, pruning the branches that cannot match, instead of comparing the keyword with every word.
+ */
+class NameTokenIndex {
+
+    /** Keywords shorter than this are matched without typos. */
+    static final int MIN_LENGTH_FOR_ONE_TYPO = 3;
+    /** Keywords at least this long are matched with up to two typos. */
+    static final int MIN_LENGTH_FOR_TWO_TYPOS = 6;
+
+    private final Map<String, Set<Name>> namesByToken = new HashMap<>();
+    private final TrieNode trieRoot = new TrieNode();
+
+    /**
+     * Adds the words in {@code name} to the index.
+     */
+    void add(Name name) {
+        requireNonNull(name);
+        for (String token : tokensOf(name.fullName)) {
+            namesByToken.computeIfAbsent(token, unused -> new HashSet<>()).add(name);
+            trieRoot.add(token, 0, name);
+        }
+    }
+
+    /**
+     * Removes the words in {@code name} from the index.
+     */
+    void remove(Name name) {
+        requireNonNull(name);
+        for (String token : tokensOf(name.fullName)) {
+            Set<Name> names = namesByToken.get(token);
+            if (names != null) {
+                names.remove(name);
+                if (names.isEmpty()) {
+                    namesByToken.remove(token);
+                }
+            }
+            trieRoot.remove(token, 0, name);
+        }
+    }
+
+    /**
+     * Removes all names from the index.
+     */
+    void clear() {
+        namesByToken.clear();
+        trieRoot.children.clear();
+        trieRoot.names.clear();
+    }
+
+    /**
+     * Returns the names that contain any of {@code words}, ignoring case.
+     * Each word must be a single word, as in {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase}.
+     */
+    Set<Name> getNamesContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        Set<Name> names = new HashSet<>();
+        for (String word : words) {
+            names.addAll(namesByToken.getOrDefault(toToken(word.trim()), Collections.emptySet()));
+        }
+        return names;
+    }
+
+    /**
+     * Returns the names that contain a word matching any of {@code keywords} approximately, ignoring case.
+     * A word matches a keyword approximately if it starts with the keyword, or if it is within
+     * {@link #getMaxTypos(String)} edits of the keyword.
+     */
+    Set<Name> getNamesFuzzyMatchingAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> names = new HashSet<>();
+        for (String keyword : keywords) {
+            String token = toToken(keyword.trim());
+            TrieNode prefixNode = trieRoot.find(token);
+            if (prefixNode != null) {
+                prefixNode.collectNames(names);
+            }
+
+            int[] firstRow = new int[token.length() + 1];
+            for (int i = 0; i < firstRow.length; i++) {
+                firstRow[i] = i;
+            }
+            int maxTypos = getMaxTypos(token);
+            for (Map.Entry<Character, TrieNode> child : trieRoot.children.entrySet()) {
+                child.getValue().collectNamesWithinDistance(child.getKey(), token, firstRow, maxTypos, names);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns true if {@code fullName} contains a word matching {@code keyword} approximately, ignoring case,
+     * as in {@link #getNamesFuzzyMatchingAnyWord(Collection)}.
+     */
+    static boolean containsFuzzyMatchingWord(String fullName, String keyword) {
+        String keywordToken = toToken(keyword.trim());
+        int maxTypos = getMaxTypos(keywordToken);
+        return tokensOf(fullName).stream().anyMatch(token -> token.startsWith(keywordToken)
+                || getEditDistance(token, keywordToken) <= maxTypos);
+    }
+
+    /**
+     * Returns the number of typos allowed when matching {@code keyword}, which grows with its length so that
+     * short keywords do not match most short words.
+     */
+    static int getMaxTypos(String keyword) {
+        if (keyword.length() >= MIN_LENGTH_FOR_TWO_TYPOS) {
+            return 2;
+        }
+        return keyword.length() >= MIN_LENGTH_FOR_ONE_TYPO ? 1 : 0;
+    }
+
+    /**
+     * Returns the minimum number of single character insertions, deletions and substitutions
+     * that turn {@code first} into {@code second}.
+     */
+    private static int getEditDistance(String first, String second) {
+        int[] row = new int[second.length() + 1];
+        for (int j = 0; j < row.length; j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            row = nextRow(row, first.charAt(i - 1), second);
+        }
+        return row[second.length()];
+    }
+
+    /**
+     * Returns the row of edit distances to the prefixes of {@code word} after appending {@code letter} to the
+     * string whose edit distances are {@code previousRow}.
+     */
+    private static int[] nextRow(int[] previousRow, char letter, String word) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        for (int j = 1; j < row.length; j++) {
+            int substitution = previousRow[j - 1] + (word.charAt(j - 1) == letter ? 0 : 1);
+            row[j] = Math.min(substitution, Math.min(previousRow[j] + 1, row[j - 1] + 1));
+        }
+        return row;
+    }
+
+    /**
+     * Returns the lower case words in {@code fullName}.
+     * Names only contain alphanumeric characters and spaces, so they are split on spaces without a regex.
+     */
+    private static List<String> tokensOf(String fullName) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        while (start < fullName.length()) {
+            int end = fullName.indexOf(' ', start);
+            if (end < 0) {
+                end = fullName.length();
+            }
+            if (end > start) {
+                tokens.add(toToken(fullName.substring(start, end)));
+            }
+            start = end + 1;
+        }
+        return tokens;
+    }
+
+    private static String toToken(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A node of the trie of words, holding the names that contain the word ending at the node.
+     */
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private final Set<Name> names = new HashSet<>();
+
+        void add(String token, int depth, Name name) {
+            if (depth == token.length()) {
+                names.add(name);
+                return;
+            }
+            children.computeIfAbsent(token.charAt(depth), unused -> new TrieNode()).add(token, depth + 1, name);
+        }
+
+        /**
+         * Removes {@code name} from the word {@code token}, dropping the nodes that become empty.
+         */
+        void remove(String token, int depth, Name name) {
+            if (depth == token.length()) {
+                names.remove(name);
+                return;
+            }
+            char letter = token.charAt(depth);
+            TrieNode child = children.get(letter);
+            if (child == null) {
+                return;
+            }
+            child.remove(token, depth + 1, name);
+            if (child.names.isEmpty() && child.children.isEmpty()) {
+                children.remove(letter);
+            }
+        }
+
+        /**
+         * Returns the node of the word {@code prefix}, or null if no word starts with {@code prefix}.
+         */
+        TrieNode find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node;
+        }
+
+        void collectNames(Set<Name> result) {
+            result.addAll(names);
+            for (TrieNode child : children.values()) {
+                child.collectNames(result);
+            }
+        }
+
+        /**
+         * Collects the names of the words below this node that are within {@code maxDistance} edits of
+         * {@code keyword}, where {@code letter} is the last letter of the word of this node and
+         * {@code parentRow} holds the edit distances from the word of the parent node to the prefixes of
+         * {@code keyword}. Branches are skipped once every prefix of the keyword is too far away.
+         */
+        void collectNamesWithinDistance(char letter, String keyword, int[] parentRow, int maxDistance,
+                Set<Name> result) {
+            int[] row = nextRow(parentRow, letter, keyword);
+            if (row[keyword.length()] <= maxDistance) {
+                result.addAll(names);
+            }
+            if (Arrays.stream(row).min().getAsInt() > maxDistance) {
+                return;
+            }
+            for (Map.Entry<Character, TrieNode> child : children.entrySet()) {
+                child.getValue().collectNamesWithinDistance(child.getKey(), keyword, row, maxDistance, result);
+            }
+        }
+    }
+}
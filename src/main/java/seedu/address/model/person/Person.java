@@ -2,13 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -23,7 +22,10 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // All fields are immutable, so the hash code is computed once
+    private final int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -34,7 +36,9 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(name, phone, email, address, this.tags);
     }
 
     public Name getName() {
@@ -55,10 +59,10 @@ public class Person {
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The tags are iterated in tag name order.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -90,7 +94,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -99,8 +104,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from every tag to a bitmap of the persons that have the tag, so that the persons having all of several
+ * tags are found by intersecting bitmaps instead of scanning the list of persons.
+ * <p>
+ * Every person is given a slot, a bit position that stays the same until the person is removed and is then reused
+ * for the next person added, so removing a person only clears the bits of its own tags.
+ * The bitmaps are plain {@link BitSet}s rather than compressed ones: there is one bit per person in the address
+ * book, so they stay small, and the slots are reused, so they stay dense.
+ */
+class TagBitmapIndex {
+
+    private final Map<Tag, BitSet> slotsByTag = new HashMap<>();
+    private final Map<Name, Integer> slotByName = new HashMap<>();
+    private final List<Name> nameBySlot = new ArrayList<>(); // null for a free slot
+    private final BitSet freeSlots = new BitSet();
+
+    /**
+     * Records that the person named {@code name} has {@code tags}.
+     * The person must not be in the index.
+     */
+    void add(Name name, Set<Tag> tags) {
+        requireAllNonNull(name, tags);
+        assert !slotByName.containsKey(name);
+
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = nameBySlot.size();
+            nameBySlot.add(name);
+        } else {
+            freeSlots.clear(slot);
+            nameBySlot.set(slot, name);
+        }
+        slotByName.put(name, slot);
+        for (Tag tag : tags) {
+            slotsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Records that the person named {@code name}, who has {@code tags}, was removed.
+     */
+    void remove(Name name, Set<Tag> tags) {
+        requireAllNonNull(name, tags);
+        Integer slot = slotByName.remove(name);
+        if (slot == null) {
+            return;
+        }
+
+        for (Tag tag : tags) {
+            BitSet slots = slotsByTag.get(tag);
+            if (slots != null) {
+                slots.clear(slot);
+                if (slots.isEmpty()) {
+                    slotsByTag.remove(tag);
+                }
+            }
+        }
+        nameBySlot.set(slot, null);
+        freeSlots.set(slot);
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        slotsByTag.clear();
+        slotByName.clear();
+        nameBySlot.clear();
+        freeSlots.clear();
+    }
+
+    /**
+     * Returns the names of the persons that have all of {@code tags}.
+     */
+    Set<Name> getNamesWithAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags.isEmpty()) {
+            return new HashSet<>(slotByName.keySet());
+        }
+
+        BitSet result = null;
+        for (Tag tag : tags) {
+            BitSet slots = slotsByTag.get(tag);
+            if (slots == null) {
+                return new HashSet<>();
+            }
+            if (result == null) {
+                result = (BitSet) slots.clone();
+            } else {
+                result.and(slots);
+            }
+        }
+
+        Set<Name> names = new HashSet<>();
+        for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+            names.add(nameBySlot.get(slot));
+        }
+        return names;
+    }
+}
@@ -1,23 +1,56 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
 public class TagContainsKeywordsPredicate implements Predicate<Person> {
     private final Set<Tag> tagKeywords;
+    private final Set<Name> matchingNames; // the names known to match the keywords, null if not looked up
+    private final BooleanSupplier areMatchingNamesCurrent;
 
     public TagContainsKeywordsPredicate(Set<Tag> keywords) {
-        this.tagKeywords = keywords;
+        this(keywords, null, () -> false);
+    }
+
+    private TagContainsKeywordsPredicate(Set<Tag> keywords, Set<Name> matchingNames,
+            BooleanSupplier areMatchingNamesCurrent) {
+        // Kept as a TagSet, which the tags of a person are checked against by walking both sorted sets together
+        this.tagKeywords = TagSet.of(keywords);
+        this.matchingNames = matchingNames;
+        this.areMatchingNamesCurrent = areMatchingNamesCurrent;
+    }
+
+    public Set<Tag> getTagKeywords() {
+        return tagKeywords;
+    }
+
+    /**
+     * Returns a predicate with the same keywords that tests a person by looking up its name in
+     * {@code matchingNames}, the names already found to match the keywords, instead of comparing tags.
+     * The names are only looked up while {@code areMatchingNamesCurrent} returns true, as the persons may have
+     * been added or edited since they were found.
+     */
+    public TagContainsKeywordsPredicate withMatchingNames(Set<Name> matchingNames,
+            BooleanSupplier areMatchingNamesCurrent) {
+        requireAllNonNull(matchingNames, areMatchingNamesCurrent);
+        return new TagContainsKeywordsPredicate(tagKeywords, matchingNames, areMatchingNamesCurrent);
     }
 
     @Override
     public boolean test(Person person) {
+        if (matchingNames != null && areMatchingNamesCurrent.getAsBoolean()) {
+            return matchingNames.contains(person.getName());
+        }
         return person.getTags().containsAll(tagKeywords);
     }
 
@@ -3,13 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +26,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since the identity of a person is its {@code Name}, the position of every person in the list is also kept in a hash
+ * index keyed on {@code Name}, so that identity lookups do not have to scan the list. The words in the names are also
+ * kept in a {@link NameTokenIndex}, and the tags of the persons in a {@link TagBitmapIndex}, so that persons can be
+ * found by name or tags without scanning the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +40,63 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> indexByName = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final TagBitmapIndex tagBitmapIndex = new TagBitmapIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return indexByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list whose name is {@code name}, if any.
+     */
+    public Optional<Person> getPerson(Name name) {
+        requireNonNull(name);
+        Integer index = indexByName.get(name);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the names of the persons in the list whose name contains any of {@code words}, ignoring case.
+     */
+    public Set<Name> getNamesContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        return nameTokenIndex.getNamesContainingAnyWord(words);
+    }
+
+    /**
+     * Returns the names of the persons in the list whose name contains a word that starts with any of
+     * {@code keywords} or is within a few typos of it, ignoring case.
+     */
+    public Set<Name> getNamesFuzzyMatchingAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokenIndex.getNamesFuzzyMatchingAnyWord(keywords);
+    }
+
+    /**
+     * Returns the names of the persons in the list who have all of {@code tags}.
+     */
+    public Set<Name> getNamesWithAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return tagBitmapIndex.getNamesWithAllTags(tags);
+    }
+
+    /**
+     * Returns the position of {@code toFind} in the list, or -1 if the list does not contain a person
+     * with exactly the same fields as {@code toFind}.
+     */
+    public int indexOf(Person toFind) {
+        requireNonNull(toFind);
+        Integer index = indexByName.get(toFind.getName());
+        if (index == null || !internalList.get(index).equals(toFind)) {
+            return -1;
+        }
+        return index;
     }
 
     /**
@@ -45,6 +108,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        indexByName.put(toAdd.getName(), internalList.size());
+        nameTokenIndex.add(toAdd.getName());
+        tagBitmapIndex.add(toAdd.getName(), toAdd.getTags());
         internalList.add(toAdd);
     }
 
@@ -56,15 +122,23 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-            throw new DuplicatePersonException();
+        if (!target.isSamePerson(editedPerson)) {
+            if (contains(editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+            indexByName.remove(target.getName());
+            indexByName.put(editedPerson.getName(), index);
+            nameTokenIndex.remove(target.getName());
+            nameTokenIndex.add(editedPerson.getName());
         }
 
+        tagBitmapIndex.remove(target.getName(), target.getTags());
+        tagBitmapIndex.add(editedPerson.getName(), editedPerson.getTags());
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +148,26 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        indexByName.remove(toRemove.getName());
+        nameTokenIndex.remove(toRemove.getName());
+        tagBitmapIndex.remove(toRemove.getName(), toRemove.getTags());
+        // persons after the removed one have shifted one position to the left
+        for (int i = index; i < internalList.size(); i++) {
+            indexByName.put(internalList.get(i).getName(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        indexByName.clear();
+        indexByName.putAll(replacement.indexByName);
+        rebuildSearchIndices(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +177,64 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Integer> replacementIndex = buildIndex(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
+        indexByName.clear();
+        indexByName.putAll(replacementIndex);
+        rebuildSearchIndices(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces the contents of this list with {@code persons}, by removing, adding and replacing single persons,
+     * so that listeners of the list are only told about the persons that changed.
+     * If the persons that stay in the list are in a different order in {@code persons}, the whole list is replaced.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void updatePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<Name, Integer> replacementIndex = buildIndex(persons);
+        if (replacementIndex == null) {
+            throw new DuplicatePersonException();
+        }
+
+        List<Person> toRemove = new ArrayList<>();
+        int previousPosition = -1;
+        for (Person person : internalList) {
+            Integer position = replacementIndex.get(person.getName());
+            if (position == null) {
+                toRemove.add(person);
+                continue;
+            }
+            if (position < previousPosition) {
+                setPersons(persons);
+                return;
+            }
+            previousPosition = position;
+        }
+
+        // Removed together, so that listeners are told about all of them in one change
+        if (!toRemove.isEmpty()) {
+            internalList.removeAll(new HashSet<>(toRemove));
+        }
+        // The persons left are in the same order as in persons, so the list can be walked along with persons
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (i == internalList.size() || !internalList.get(i).isSamePerson(person)) {
+                internalList.add(i, person);
+            } else if (!internalList.get(i).equals(person)) {
+                internalList.set(i, person);
+            }
+        }
+
+        indexByName.clear();
+        indexByName.putAll(replacementIndex);
+        rebuildSearchIndices(persons);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -134,17 +272,25 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void rebuildSearchIndices(List<Person> persons) {
+        nameTokenIndex.clear();
+        tagBitmapIndex.clear();
+        for (Person person : persons) {
+            nameTokenIndex.add(person.getName());
+            tagBitmapIndex.add(person.getName(), person.getTags());
+        }
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the name index of {@code persons}, or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> buildIndex(List<Person> persons) {
+        Map<Name, Integer> index = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(persons.get(i).getName(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -3,15 +3,22 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags are shared by many persons, so the tags of persons are canonicalized with {@link #intern()}.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric and non-empty.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INTERNER = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +32,27 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the name {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return new Tag(tagName).intern();
+    }
+
+    /**
+     * Returns the canonical {@code Tag} equal to this tag.
+     */
+    public Tag intern() {
+        return INTERNER.intern(this);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
@@ -0,0 +1,189 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of canonical tags, kept in an array sorted by tag name.
+ * <p>
+ * Persons usually have a few tags, so an array takes up much less memory than a {@code HashSet}, and a tag is
+ * found by a binary search over a few elements. Iterating in tag name order also spares the UI from sorting the tags.
+ * Methods that would modify the set throw {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+    private final int hashCode;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        int hash = 0;
+        for (Tag tag : tags) {
+            hash += tag.hashCode();
+        }
+        this.hashCode = hash;
+    }
+
+    /**
+     * Returns a {@code TagSet} of the canonical instances of {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = new Tag[tags.size()];
+        int size = 0;
+        for (Tag tag : tags) {
+            sortedTags[size++] = tag.intern();
+        }
+        Arrays.sort(sortedTags, (first, second) -> first.tagName.compareTo(second.tagName));
+
+        // Drops duplicates, which are next to each other after sorting
+        int distinctSize = 1;
+        for (int i = 1; i < size; i++) {
+            if (sortedTags[i] != sortedTags[distinctSize - 1]) {
+                sortedTags[distinctSize++] = sortedTags[i];
+            }
+        }
+        return new TagSet(distinctSize == size ? sortedTags : Arrays.copyOf(sortedTags, distinctSize));
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        return indexOf((Tag) other) >= 0;
+    }
+
+    /**
+     * Returns true if this set contains all of {@code others}.
+     * Another {@code TagSet} is compared by walking both sorted arrays together.
+     */
+    @Override
+    public boolean containsAll(Collection<?> others) {
+        requireNonNull(others);
+        if (!(others instanceof TagSet)) {
+            return super.containsAll(others);
+        }
+
+        Tag[] otherTags = ((TagSet) others).tags;
+        int i = 0;
+        for (Tag otherTag : otherTags) {
+            while (i < tags.length && tags[i].tagName.compareTo(otherTag.tagName) < 0) {
+                i++;
+            }
+            if (i == tags.length || !tags[i].equals(otherTag)) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super Tag> action) {
+        requireNonNull(action);
+        for (Tag tag : tags) {
+            action.accept(tag);
+        }
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet) {
+            TagSet otherTagSet = (TagSet) other;
+            return hashCode == otherTagSet.hashCode && Arrays.equals(tags, otherTagSet.tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    private int indexOf(Tag tag) {
+        int low = 0;
+        int high = tags.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = tags[middle].tagName.compareTo(tag.tagName);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.util;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,7 +17,6 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -47,13 +47,10 @@ public class SampleDataUtil {
     }
 
     public static Event[] getSampleEvents() {
-        AddressBook sampleAb = new AddressBook();
-        for (Person samplePerson : getSamplePersons()) {
-            sampleAb.addPerson(samplePerson);
-        }
-        UniquePersonList a = new UniquePersonList();
-        a.setPersons(sampleAb.getPersonList());
-        return new Event[] { new Event(new EventName("Orientation"), new EventDate("05-07-2024"), a) };
+        List<Name> attendees = Arrays.stream(getSamplePersons())
+                .map(Person::getName)
+                .collect(Collectors.toList());
+        return new Event[] { new Event(new EventName("Orientation"), new EventDate("05-07-2024"), attendees) };
     }
 
     public static ReadOnlyAddressBook getSampleAddressBook() {
@@ -77,7 +74,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 }
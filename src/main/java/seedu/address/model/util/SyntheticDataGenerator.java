@@ -0,0 +1,228 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDate;
+import seedu.address.model.event.EventName;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates large address books and event books, for trying out and measuring the app with many persons,
+ * where {@link SampleDataUtil} only has a few.
+ * <p>
+ * The data only depends on the seed, so the same data can be generated again. Names, tags and attendance are drawn
+ * from Zipf distributions, so that like in real data a few names and tags are very common, and a few persons attend
+ * most events.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+
+    private static final String[] FIRST_NAMES = {
+        "Wei", "Alex", "Irfan", "Siti", "David", "Bernice", "Charlotte", "Roy", "Jun", "Hui", "Muhammad", "Nur",
+        "Daniel", "Priya", "Ahmad", "Mei", "Ryan", "Rachel", "Kumar", "Aisha", "Marcus", "Grace", "Arjun", "Chloe",
+        "Farhan", "Lina", "Ethan", "Joanne", "Vikram", "Zhi", "Benjamin", "Amelia", "Hafiz", "Sarah", "Kenji", "Olivia"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ibrahim", "Kumar", "Yeoh",
+        "Li", "Yu", "Oliveiro", "Balakrishnan", "Rahman", "Abdullah", "Pillai", "Nair", "Smith", "Fernandez", "Ho",
+        "Sim", "Low", "Yap", "Chong", "Hassan"
+    };
+    private static final String[] TAGS = {
+        "friends", "colleagues", "family", "classmates", "neighbours", "owesMoney", "committee", "volunteer",
+        "freshman", "senior", "alumni", "mentor", "sponsor", "vendor", "speaker", "photographer", "logistics",
+        "finance", "publicity", "welfare", "sports", "music", "dance", "drama", "coding", "robotics", "debate",
+        "chess", "hiking", "cycling"
+    };
+    private static final String[] STREETS = {
+        "Geylang", "Serangoon", "Tampines", "Clementi", "Jurong West", "Ang Mo Kio", "Bedok North", "Yishun",
+        "Pasir Ris", "Toa Payoh", "Bukit Batok", "Woodlands"
+    };
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "example.com", "u.nus.edu", "yahoo.com", "hotmail.com"};
+    private static final String[] EVENT_KINDS = {
+        "Orientation", "Welfare Drive", "Committee Meeting", "Sports Day", "Career Fair", "Hackathon", "Workshop",
+        "Movie Night", "Beach Cleanup", "Concert", "Talk", "Dinner"
+    };
+
+    /** The share of persons with 0, 1, 2 and 3 tags. */
+    private static final double[] TAG_COUNT_SHARES = {0.3, 0.4, 0.2, 0.1};
+    private static final int MIN_ATTENDEES = 10;
+    private static final int MAX_ATTENDEES = 200;
+    private static final LocalDate FIRST_EVENT_DATE = LocalDate.of(2024, 1, 1);
+    private static final int EVENT_DAYS = 730;
+    private static final DateTimeFormatter EVENT_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+
+    private final Random random;
+    private final ZipfDistribution firstNameDistribution = new ZipfDistribution(FIRST_NAMES.length);
+    private final ZipfDistribution lastNameDistribution = new ZipfDistribution(LAST_NAMES.length);
+    private final ZipfDistribution tagDistribution = new ZipfDistribution(TAGS.length);
+
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns {@code count} persons with distinct names.
+     */
+    public List<Person> generatePersons(int count) {
+        checkArgument(count >= 0, "The number of persons must not be negative");
+        List<Person> persons = new ArrayList<>(count);
+        Map<String, Integer> nameCounts = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson(nameCounts));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code count} distinct events, attended by some of {@code persons}.
+     * Each event has between {@value #MIN_ATTENDEES} and {@value #MAX_ATTENDEES} attendees, or all of
+     * {@code persons} if there are fewer. The attendees are drawn from a Zipf distribution over {@code persons} in a
+     * random order, so the first persons in that order attend most events.
+     */
+    public List<Event> generateEvents(int count, List<Person> persons) {
+        checkArgument(count >= 0, "The number of events must not be negative");
+        List<Person> personsByPopularity = new ArrayList<>(persons);
+        Collections.shuffle(personsByPopularity, random);
+        ZipfDistribution attendeeDistribution = new ZipfDistribution(Math.max(1, persons.size()));
+
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            EventName eventName = new EventName(EVENT_KINDS[random.nextInt(EVENT_KINDS.length)] + " " + (i + 1));
+            EventDate eventDate = new EventDate(
+                    FIRST_EVENT_DATE.plusDays(random.nextInt(EVENT_DAYS)).format(EVENT_DATE_FORMATTER));
+            int attendeeCount = Math.min(persons.size(),
+                    MIN_ATTENDEES + random.nextInt(MAX_ATTENDEES - MIN_ATTENDEES + 1));
+            events.add(new Event(eventName, eventDate,
+                    pickAttendees(personsByPopularity, attendeeDistribution, attendeeCount)));
+        }
+        return events;
+    }
+
+    /**
+     * Returns an address book of {@code personCount} generated persons.
+     */
+    public AddressBook generateAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(personCount));
+        return addressBook;
+    }
+
+    /**
+     * Returns an event book of {@code eventCount} generated events, attended by the persons in {@code addressBook}.
+     */
+    public EventBook generateEventBook(int eventCount, AddressBook addressBook) {
+        EventBook eventBook = new EventBook();
+        eventBook.setEvents(generateEvents(eventCount, addressBook.getPersonList()));
+        return eventBook;
+    }
+
+    private Person generatePerson(Map<String, Integer> nameCounts) {
+        String firstName = FIRST_NAMES[firstNameDistribution.sample(random)];
+        String lastName = LAST_NAMES[lastNameDistribution.sample(random)];
+
+        // Persons are identified by their names, so repeated names are numbered
+        String fullName = firstName + " " + lastName;
+        int nameCount = nameCounts.merge(fullName, 1, Integer::sum);
+        if (nameCount > 1) {
+            fullName = fullName + " " + nameCount;
+        }
+
+        String emailUser = (firstName + "." + lastName.replace(" ", "")).toLowerCase(Locale.ROOT)
+                + (nameCount > 1 ? String.valueOf(nameCount) : "");
+        String email = emailUser + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+        String address = String.format("Blk %d %s Street %d, #%02d-%02d", 1 + random.nextInt(999),
+                STREETS[random.nextInt(STREETS.length)], 1 + random.nextInt(99), 1 + random.nextInt(30),
+                1 + random.nextInt(99));
+
+        return new Person(new Name(fullName), new Phone(generatePhone()), new Email(email), new Address(address),
+                generateTags());
+    }
+
+    /**
+     * Returns a mobile number most of the time, and sometimes a landline number.
+     */
+    private String generatePhone() {
+        int firstDigit = random.nextInt(10) < 9 ? 8 + random.nextInt(2) : 6;
+        return firstDigit + String.format("%07d", random.nextInt(10_000_000));
+    }
+
+    private Set<Tag> generateTags() {
+        double share = random.nextDouble();
+        int tagCount = 0;
+        while (tagCount < TAG_COUNT_SHARES.length - 1 && share >= TAG_COUNT_SHARES[tagCount]) {
+            share -= TAG_COUNT_SHARES[tagCount];
+            tagCount++;
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        while (tags.size() < tagCount) {
+            tags.add(Tag.of(TAGS[tagDistribution.sample(random)]));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the names of {@code count} distinct persons drawn from {@code attendeeDistribution}.
+     * If drawing keeps hitting persons that are already picked, the most popular persons not yet picked are added.
+     */
+    private Set<Name> pickAttendees(List<Person> personsByPopularity, ZipfDistribution attendeeDistribution,
+            int count) {
+        Set<Name> attendees = new LinkedHashSet<>();
+        for (int attempts = 0; attendees.size() < count && attempts < count * 10; attempts++) {
+            attendees.add(personsByPopularity.get(attendeeDistribution.sample(random)).getName());
+        }
+        for (int i = 0; attendees.size() < count; i++) {
+            attendees.add(personsByPopularity.get(i).getName());
+        }
+        return attendees;
+    }
+
+    /**
+     * A Zipf distribution over the ranks {@code 0} to {@code size - 1}, where rank {@code k} is drawn with a
+     * probability proportional to {@code 1 / (k + 1)}.
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeProbabilities;
+
+        ZipfDistribution(int size) {
+            cumulativeProbabilities = new double[size];
+            double total = 0;
+            for (int k = 0; k < size; k++) {
+                total += 1.0 / (k + 1);
+                cumulativeProbabilities[k] = total;
+            }
+            for (int k = 0; k < size; k++) {
+                cumulativeProbabilities[k] /= total;
+            }
+        }
+
+        int sample(Random random) {
+            int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+            int rank = index >= 0 ? index : -index - 1;
+            return Math.min(rank, cumulativeProbabilities.length - 1);
+        }
+    }
+}
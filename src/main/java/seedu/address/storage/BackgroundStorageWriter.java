@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.EventBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+
+/**
+ * Saves the address book and event book to a {@code Storage} on a background thread.
+ * <p>
+ * A snapshot of a book is taken when its save is requested, so later changes to the book do not affect the save.
+ * The snapshot only copies the list of the book, and anything else that the save needs is built on the background
+ * thread. Saves requested while an earlier save is still waiting to be written are coalesced, so only the latest
+ * snapshot of each book is written. Books whose version has not changed since their last requested save are not
+ * copied or saved again, unless that save failed.
+ */
+public class BackgroundStorageWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundStorageWriter.class);
+
+    private final Storage storage;
+    private final ExecutorService executor;
+    private volatile Consumer<IOException> failureHandler;
+
+    // The versions of the books whose saves were last requested, to skip unchanged saves; 0 is no version
+    private long lastRequestedAddressBookVersion;
+    private long lastRequestedEventBookVersion;
+    private volatile boolean hasAddressBookSaveFailed;
+    private volatile boolean hasEventBookSaveFailed;
+
+    // Snapshots of the books that are waiting to be written, null if there is none; guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyEventBook pendingEventBook;
+    private boolean isWriteScheduled;
+
+    /**
+     * Creates a {@code BackgroundStorageWriter} that saves to {@code storage}.
+     */
+    public BackgroundStorageWriter(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        failureHandler = e -> { };
+    }
+
+    /**
+     * Sets the handler that is called on the background thread when a save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Requests {@code addressBook} to be saved in the background.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook.getVersion() == lastRequestedAddressBookVersion && !hasAddressBookSaveFailed) {
+            return;
+        }
+        hasAddressBookSaveFailed = false;
+        lastRequestedAddressBookVersion = addressBook.getVersion();
+
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Requests {@code eventBook} to be saved in the background.
+     */
+    public void saveEventBook(ReadOnlyEventBook eventBook) {
+        requireNonNull(eventBook);
+        if (eventBook.getVersion() == lastRequestedEventBookVersion && !hasEventBookSaveFailed) {
+            return;
+        }
+        hasEventBookSaveFailed = false;
+        lastRequestedEventBookVersion = eventBook.getVersion();
+
+        ReadOnlyEventBook snapshot = new EventBookSnapshot(eventBook);
+        synchronized (this) {
+            pendingEventBook = snapshot;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Blocks until all requested saves have been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+    }
+
+    /**
+     * Writes all requested saves and stops the background thread.
+     * No more saves can be requested afterwards.
+     */
+    public void close() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void scheduleWrite() {
+        assert Thread.holdsLock(this);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            ReadOnlyEventBook eventBook;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                eventBook = pendingEventBook;
+                pendingAddressBook = null;
+                pendingEventBook = null;
+                if (addressBook == null && eventBook == null) {
+                    isWriteScheduled = false;
+                    return;
+                }
+            }
+
+            if (addressBook != null) {
+                try {
+                    storage.saveAddressBook(addressBook);
+                } catch (IOException e) {
+                    hasAddressBookSaveFailed = true;
+                    handleFailure(e);
+                }
+            }
+            if (eventBook != null) {
+                try {
+                    storage.saveEventBook(eventBook);
+                } catch (IOException e) {
+                    hasEventBookSaveFailed = true;
+                    handleFailure(e);
+                }
+            }
+        }
+    }
+
+    private void handleFailure(IOException e) {
+        logger.warning("Failed to save data " + StringUtil.getDetails(e));
+        failureHandler.accept(e);
+    }
+}
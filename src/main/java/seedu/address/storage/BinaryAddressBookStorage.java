@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ * Each person is a record of the string table indices of its name, phone, email and address,
+ * followed by the number of its tags and the indices of the tags.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Identifies binary address book files. */
+    static final int MAGIC = 0x45564142; // "EVAB"
+
+    private static final int TAG_COUNT_INDEX = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file cannot be loaded, the backup kept from before its last save is loaded instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            return readAddressBookFile(filePath);
+        } catch (DataLoadingException e) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, loading backup " + backupFilePath);
+            return readAddressBookFile(backupFilePath);
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            BinarySnapshotFile.read(filePath, MAGIC, (strings, record) ->
+                    JsonSerializableAddressBook.addToAddressBook(toJsonAdaptedPerson(strings, record), addressBook));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinarySnapshotFile file = new BinarySnapshotFile();
+        for (Person person : addressBook.getPersonList()) {
+            int[] record = new int[TAG_COUNT_INDEX + 1 + person.getTags().size()];
+            record[0] = file.indexOf(person.getName().fullName);
+            record[1] = file.indexOf(person.getPhone().value);
+            record[2] = file.indexOf(person.getEmail().value);
+            record[3] = file.indexOf(person.getAddress().value);
+            record[TAG_COUNT_INDEX] = person.getTags().size();
+            int i = TAG_COUNT_INDEX + 1;
+            for (Tag tag : person.getTags()) {
+                record[i++] = file.indexOf(tag.tagName);
+            }
+            file.addRecord(record);
+        }
+
+        file.write(filePath, MAGIC);
+    }
+
+    /**
+     * Converts a person record into a {@code JsonAdaptedPerson}, so it is validated in the same way as JSON data.
+     */
+    private static JsonAdaptedPerson toJsonAdaptedPerson(String[] strings, int[] record)
+            throws IllegalValueException {
+        if (record.length <= TAG_COUNT_INDEX || record[TAG_COUNT_INDEX] < 0
+                || record.length <= TAG_COUNT_INDEX + record[TAG_COUNT_INDEX]) {
+            throw new IllegalValueException(BinarySnapshotFile.MESSAGE_CORRUPTED_FILE);
+        }
+
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < record[TAG_COUNT_INDEX]; i++) {
+            tags.add(new JsonAdaptedTag(BinarySnapshotFile.getString(strings, record[TAG_COUNT_INDEX + 1 + i])));
+        }
+        return new JsonAdaptedPerson(BinarySnapshotFile.getString(strings, record[0]),
+                BinarySnapshotFile.getString(strings, record[1]), BinarySnapshotFile.getString(strings, record[2]),
+                BinarySnapshotFile.getString(strings, record[3]), tags);
+    }
+
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.EventBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+
+/**
+ * A class to access EventBook data stored as a binary snapshot file on the hard disk.
+ * Each event is a record of the string table indices of its name and date,
+ * followed by the number of its persons and the indices of the names of the persons.
+ */
+public class BinaryEventBookStorage implements EventBookStorage {
+
+    /** Identifies binary event book files. */
+    static final int MAGIC = 0x45564542; // "EVEB"
+
+    private static final int ATTENDEE_COUNT_INDEX = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryEventBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryEventBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getEventBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEventBook> readEventBook() throws DataLoadingException {
+        return readEventBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEventBook()}.
+     * If the file cannot be loaded, the backup kept from before its last save is loaded instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyEventBook> readEventBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            return readEventBookFile(filePath);
+        } catch (DataLoadingException e) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, loading backup " + backupFilePath);
+            return readEventBookFile(backupFilePath);
+        }
+    }
+
+    private Optional<ReadOnlyEventBook> readEventBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        EventBook eventBook = new EventBook();
+        try {
+            BinarySnapshotFile.read(filePath, MAGIC, (strings, record) ->
+                    JsonSerializableEventBook.addToEventBook(toJsonAdaptedEvent(strings, record), eventBook));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(eventBook);
+    }
+
+    @Override
+    public void saveEventBook(ReadOnlyEventBook eventBook) throws IOException {
+        saveEventBook(eventBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEventBook(ReadOnlyEventBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveEventBook(ReadOnlyEventBook eventBook, Path filePath) throws IOException {
+        requireNonNull(eventBook);
+        requireNonNull(filePath);
+
+        BinarySnapshotFile file = new BinarySnapshotFile();
+        for (Event event : eventBook.getEventList()) {
+            int[] record = new int[ATTENDEE_COUNT_INDEX + 1 + event.getAttendees().size()];
+            record[0] = file.indexOf(event.getEventName().toString());
+            record[1] = file.indexOf(event.getEventDate().toString());
+            record[ATTENDEE_COUNT_INDEX] = event.getAttendees().size();
+            int i = ATTENDEE_COUNT_INDEX + 1;
+            for (Name attendee : event.getAttendees()) {
+                record[i++] = file.indexOf(attendee.fullName);
+            }
+            file.addRecord(record);
+        }
+
+        file.write(filePath, MAGIC);
+    }
+
+    /**
+     * Converts an event record into a {@code JsonAdaptedEvent}, so it is validated in the same way as JSON data.
+     */
+    private static JsonAdaptedEvent toJsonAdaptedEvent(String[] strings, int[] record) throws IllegalValueException {
+        if (record.length <= ATTENDEE_COUNT_INDEX || record[ATTENDEE_COUNT_INDEX] < 0
+                || record.length <= ATTENDEE_COUNT_INDEX + record[ATTENDEE_COUNT_INDEX]) {
+            throw new IllegalValueException(BinarySnapshotFile.MESSAGE_CORRUPTED_FILE);
+        }
+
+        List<String> attendees = new ArrayList<>();
+        for (int i = 0; i < record[ATTENDEE_COUNT_INDEX]; i++) {
+            attendees.add(BinarySnapshotFile.getString(strings, record[ATTENDEE_COUNT_INDEX + 1 + i]));
+        }
+        return new JsonAdaptedEvent(BinarySnapshotFile.getString(strings, record[0]),
+                BinarySnapshotFile.getString(strings, record[1]), attendees, null);
+    }
+
+}
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads and writes binary snapshot files, which store a list of records that each consist of integers.
+ * <p>
+ * Strings are stored once in a string table, and records refer to them by their index in the table,
+ * so values that repeat across records, like tags, are only stored once.
+ * All integers are big-endian. A file is laid out as follows:
+ * <pre>
+ * int magic, int version,
+ * int stringCount, stringCount * (int byteCount, byteCount * byte of UTF-8),
+ * int recordCount, recordCount * (int valueCount, valueCount * int)
+ * </pre>
+ * Records are length-prefixed, so a reader ignores the values that a later version appends to a record.
+ */
+class BinarySnapshotFile {
+
+    /** The version of the format written by this class. Files of later versions cannot be read. */
+    static final int VERSION = 1;
+
+    static final String MESSAGE_WRONG_FILE_TYPE = "The file is not a binary data file of the expected type.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "The binary data file is of unsupported version %d.";
+    static final String MESSAGE_CORRUPTED_FILE = "The binary data file is corrupted.";
+
+    /**
+     * Handles the records read by {@link #read(Path, int, RecordHandler)}.
+     */
+    @FunctionalInterface
+    interface RecordHandler {
+        /**
+         * Handles the next record read.
+         *
+         * @param strings The string table of the file.
+         * @param record The values of the record.
+         * @throws IllegalValueException if the record violates data constraints.
+         */
+        void handle(String[] strings, int[] record) throws IllegalValueException;
+    }
+
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIndices = new HashMap<>();
+    private final List<int[]> records = new ArrayList<>();
+
+    /**
+     * Returns the index of {@code string} in the string table of this file, adding it to the table if needed.
+     */
+    int indexOf(String string) {
+        return stringIndices.computeIfAbsent(string, unused -> {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * Adds a record to this file.
+     */
+    void addRecord(int... record) {
+        records.add(record);
+    }
+
+    /**
+     * Writes this file to {@code filePath}, overwriting it if it exists.
+     * The file is replaced atomically, and its previous content is kept at {@link FileUtil#getBackupFilePath(Path)}.
+     */
+    void write(Path filePath, int magic) throws IOException {
+        FileUtil.writeAtomically(filePath, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(magic);
+            out.writeInt(VERSION);
+
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(records.size());
+            for (int[] record : records) {
+                out.writeInt(record.length);
+                for (int value : record) {
+                    out.writeInt(value);
+                }
+            }
+            out.flush();
+        }, true);
+    }
+
+    /**
+     * Reads the file at {@code filePath} through a memory mapping, passing its records one at a time to
+     * {@code recordHandler}.
+     *
+     * @throws DataLoadingException if the file could not be read, or is not a valid file of the expected type.
+     * @throws IllegalValueException if {@code recordHandler} rejected a record.
+     */
+    static void read(Path filePath, int magic, RecordHandler recordHandler)
+            throws DataLoadingException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != magic) {
+                throw new DataLoadingException(new IllegalValueException(MESSAGE_WRONG_FILE_TYPE));
+            }
+            int version = buffer.getInt();
+            if (version > VERSION) {
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_UNSUPPORTED_VERSION, version)));
+            }
+
+            String[] strings = new String[readCount(buffer)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount(buffer)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int recordCount = readCount(buffer);
+            for (int i = 0; i < recordCount; i++) {
+                int[] record = new int[readCount(buffer)];
+                buffer.asIntBuffer().get(record);
+                buffer.position(buffer.position() + record.length * Integer.BYTES);
+                recordHandler.handle(strings, record);
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_CORRUPTED_FILE));
+        }
+    }
+
+    /**
+     * Returns the string at {@code index} in {@code strings}.
+     *
+     * @throws IllegalValueException if there is no such string.
+     */
+    static String getString(String[] strings, int index) throws IllegalValueException {
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return strings[index];
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            // Every counted item takes at least one byte, so the count cannot exceed what is left of the file
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file and an append-only journal on the hard disk.
+ * Saving only appends the persons that changed since the last save to the journal,
+ * and the journal is compacted into the snapshot once it grows too long.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AddressBookStorage snapshotStorage;
+    private final ListJournal<Person> journal;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} with a json snapshot at {@code filePath}.
+     * The journal is kept next to the snapshot.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(new JsonAddressBookStorage(filePath));
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} with its snapshot in {@code snapshotStorage}.
+     * The journal is kept next to the snapshot.
+     */
+    public JournalAddressBookStorage(AddressBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.filePath = snapshotStorage.getAddressBookFilePath();
+        this.snapshotStorage = snapshotStorage;
+        journal = new PersonJournal(ListJournal.journalFilePathOf(filePath));
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journal.getJournalFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the snapshot at {@code filePath} is read if it is not the snapshot of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(this.filePath) || !snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        List<Person> persons;
+        try {
+            persons = journal.replay(snapshot.get().getPersonList(), ListJournal.checksumOf(filePath));
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            logger.info("Duplicate persons found after replaying " + journal.getJournalFilePath());
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        journal.setSavedVersion(addressBook.getVersion());
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is saved in full, without a journal, if {@code filePath} is not the snapshot of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (!journal.append(addressBook.getPersonChangeLog())) {
+            logger.fine("Compacting journal into snapshot " + filePath);
+            long version = addressBook.getVersion();
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            journal.reset(version, ListJournal.checksumOf(filePath));
+        }
+    }
+
+    /**
+     * A journal of the changes to the persons of an address book.
+     */
+    private static class PersonJournal extends ListJournal<Person> {
+
+        PersonJournal(Path journalFilePath) {
+            super(journalFilePath);
+        }
+
+        @Override
+        String toJson(Person person) throws IOException {
+            return JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person));
+        }
+
+        @Override
+        Person fromJson(String json) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType();
+        }
+    }
+
+}
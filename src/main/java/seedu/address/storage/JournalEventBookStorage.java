@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EventBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.DuplicateEventException;
+
+/**
+ * A class to access EventBook data stored as a snapshot file and an append-only journal on the hard disk.
+ * Saving only appends the events that changed since the last save to the journal, or only the persons removed from
+ * and added to an event if those are all that changed,
+ * and the journal is compacted into the snapshot once it grows too long.
+ */
+public class JournalEventBookStorage implements EventBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalEventBookStorage.class);
+
+    private final Path filePath;
+    private final EventBookStorage snapshotStorage;
+    private final ListJournal<Event> journal;
+
+    /**
+     * Creates a {@code JournalEventBookStorage} with a json snapshot at {@code filePath}.
+     * The journal is kept next to the snapshot.
+     */
+    public JournalEventBookStorage(Path filePath) {
+        this(new JsonEventBookStorage(filePath));
+    }
+
+    /**
+     * Creates a {@code JournalEventBookStorage} with its snapshot in {@code snapshotStorage}.
+     * The journal is kept next to the snapshot.
+     */
+    public JournalEventBookStorage(EventBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.filePath = snapshotStorage.getEventBookFilePath();
+        this.snapshotStorage = snapshotStorage;
+        journal = new EventJournal(ListJournal.journalFilePathOf(filePath));
+    }
+
+    public Path getEventBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journal.getJournalFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyEventBook> readEventBook() throws DataLoadingException {
+        return readEventBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEventBook()}.
+     * Only the snapshot at {@code filePath} is read if it is not the snapshot of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyEventBook> readEventBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyEventBook> snapshot = snapshotStorage.readEventBook(filePath);
+        if (!filePath.equals(this.filePath) || !snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        List<Event> events;
+        try {
+            events = journal.replay(snapshot.get().getEventList(), ListJournal.checksumOf(filePath));
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        EventBook eventBook = new EventBook();
+        try {
+            eventBook.setEvents(events);
+        } catch (DuplicateEventException e) {
+            logger.info("Duplicate events found after replaying " + journal.getJournalFilePath());
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableEventBook.MESSAGE_DUPLICATE_EVENT));
+        }
+        journal.setSavedVersion(eventBook.getVersion());
+        return Optional.of(eventBook);
+    }
+
+    @Override
+    public void saveEventBook(ReadOnlyEventBook eventBook) throws IOException {
+        saveEventBook(eventBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEventBook(ReadOnlyEventBook)}.
+     * The event book is saved in full, without a journal, if {@code filePath} is not the snapshot of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveEventBook(ReadOnlyEventBook eventBook, Path filePath) throws IOException {
+        requireNonNull(eventBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveEventBook(eventBook, filePath);
+            return;
+        }
+
+        if (!journal.append(eventBook.getEventChangeLog())) {
+            logger.fine("Compacting journal into snapshot " + filePath);
+            long version = eventBook.getVersion();
+            snapshotStorage.saveEventBook(eventBook, filePath);
+            journal.reset(version, ListJournal.checksumOf(filePath));
+        }
+    }
+
+    /**
+     * A journal of the changes to the events of an event book.
+     */
+    private static class EventJournal extends ListJournal<Event> {
+
+        EventJournal(Path journalFilePath) {
+            super(journalFilePath);
+        }
+
+        @Override
+        String toJson(Event event) throws IOException {
+            return JsonUtil.toCompactJsonString(new JsonAdaptedEvent(event));
+        }
+
+        @Override
+        Event fromJson(String json) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(json, JsonAdaptedEvent.class).toModelType();
+        }
+
+        /**
+         * Returns the persons removed from and added to the event, so that inviting a person to a large event does
+         * not store every other person of the event again.
+         */
+        @Override
+        Optional<String> toDelta(Event event, Event changedEvent) throws IOException {
+            Optional<JsonAdaptedAttendeeChanges> changes = JsonAdaptedAttendeeChanges.of(event, changedEvent);
+            return changes.isPresent()
+                    ? Optional.of(JsonUtil.toCompactJsonString(changes.get()))
+                    : Optional.empty();
+        }
+
+        @Override
+        Event applyDelta(Event event, String delta) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(delta, JsonAdaptedAttendeeChanges.class).applyTo(event);
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+
+/**
+ * Jackson-friendly version of the changes to the persons of an {@link Event}, which are the persons removed from the
+ * event and the persons added to it, so that a change to the persons of a large event is stored without storing
+ * every other person of the event again.
+ */
+class JsonAdaptedAttendeeChanges {
+
+    public static final String MESSAGE_UNKNOWN_ATTENDEE = "Event does not contain the removed person %s.";
+
+    private final List<String> removed = new ArrayList<>();
+
+    private final List<String> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAttendeeChanges} with the given names of the removed and added persons.
+     */
+    @JsonCreator
+    public JsonAdaptedAttendeeChanges(@JsonProperty("removed") List<String> removed,
+                                      @JsonProperty("added") List<String> added) {
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Returns the changes that turn {@code event} into {@code changedEvent}, which must be the same event.
+     * The changes are empty if they cannot turn one into the other, which is the case if the persons of the event
+     * are reordered, such as by renaming a person in place.
+     */
+    public static Optional<JsonAdaptedAttendeeChanges> of(Event event, Event changedEvent) {
+        if (!event.isSameEvent(changedEvent)) {
+            return Optional.empty();
+        }
+
+        Set<Name> attendees = event.getAttendees();
+        Set<Name> changedAttendees = changedEvent.getAttendees();
+        List<Name> removedAttendees = attendees.stream()
+                .filter(name -> !changedAttendees.contains(name))
+                .collect(Collectors.toList());
+        List<Name> addedAttendees = changedAttendees.stream()
+                .filter(name -> !attendees.contains(name))
+                .collect(Collectors.toList());
+
+        // Removed persons leave the others in place and added persons go last, as in the event
+        Set<Name> resultingAttendees = new LinkedHashSet<>(attendees);
+        resultingAttendees.removeAll(removedAttendees);
+        resultingAttendees.addAll(addedAttendees);
+        if (!new ArrayList<>(resultingAttendees).equals(new ArrayList<>(changedAttendees))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new JsonAdaptedAttendeeChanges(toStrings(removedAttendees), toStrings(addedAttendees)));
+    }
+
+    /**
+     * Returns a copy of {@code event} with these changes applied to its persons.
+     *
+     * @throws IllegalValueException if a removed person is not in the event, an added person is already in it,
+     *     or a name is invalid.
+     */
+    public Event applyTo(Event event) throws IllegalValueException {
+        Set<Name> attendees = new LinkedHashSet<>(event.getAttendees());
+        for (Name name : toNames(removed)) {
+            if (!attendees.remove(name)) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ATTENDEE, name));
+            }
+        }
+        for (Name name : toNames(added)) {
+            if (!attendees.add(name)) {
+                throw new IllegalValueException(JsonAdaptedEvent.MESSAGE_DUPLICATE_ATTENDEE);
+            }
+        }
+        return new Event(event.getEventName(), event.getEventDate(), attendees);
+    }
+
+    private static List<String> toStrings(List<Name> names) {
+        return names.stream()
+                .map(name -> name.fullName)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Name> toNames(List<String> names) throws IllegalValueException {
+        List<Name> modelNames = new ArrayList<>();
+        for (String name : names) {
+            if (name == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT,
+                        Name.class.getSimpleName()));
+            }
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            modelNames.add(new Name(name));
+        }
+        return modelNames;
+    }
+
+}
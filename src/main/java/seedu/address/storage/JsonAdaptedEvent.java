@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,33 +13,44 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventDate;
 import seedu.address.model.event.EventName;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.Name;
 
 
 /**
  * Jackson-friendly version of {@link Event}.
+ * The persons of the event are stored by name and resolved against the address book, so the records of the persons
+ * are only stored once, in the address book file.
  */
 class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
+    public static final String MESSAGE_DUPLICATE_ATTENDEE = "Event's persons contain duplicate person(s).";
 
     private final String eventName;
 
     private final String eventDate;
 
-    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<String> attendees = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonAdaptedEvent} with the given person details.
+     * Constructs a {@code JsonAdaptedEvent} with the given event details.
+     * {@code persons} is only read from event books saved by older versions, which stored a full copy of every
+     * person of the event; only the names of those persons are kept.
      */
     @JsonCreator
     public JsonAdaptedEvent(@JsonProperty("eventName") String eventName,
                             @JsonProperty("eventDate") String eventDate,
-                             @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+                            @JsonProperty("attendees") List<String> attendees,
+                            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
         this.eventName = eventName;
         this.eventDate = eventDate;
+        if (attendees != null) {
+            this.attendees.addAll(attendees);
+        }
         if (persons != null) {
-            this.persons.addAll(persons);
+            this.attendees.addAll(persons.stream()
+                    .map(JsonAdaptedPerson::getName)
+                    .collect(Collectors.toList()));
         }
     }
 
@@ -47,20 +60,29 @@ class JsonAdaptedEvent {
     public JsonAdaptedEvent(Event source) {
         eventName = source.getEventName().toString();
         eventDate = source.getEventDate().toString();
-        persons.addAll(source.getPersonList().stream()
-                .map(JsonAdaptedPerson::new)
+        attendees.addAll(source.getAttendees().stream()
+                .map(name -> name.fullName)
                 .collect(Collectors.toList()));
     }
 
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
     public Event toModelType() throws IllegalValueException {
-        final UniquePersonList eventPersons = new UniquePersonList();
-        for (JsonAdaptedPerson person : persons) {
-            eventPersons.add(person.toModelType());
+        final Set<Name> eventAttendees = new LinkedHashSet<>();
+        for (String attendee : attendees) {
+            if (attendee == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                        Name.class.getSimpleName()));
+            }
+            if (!Name.isValidName(attendee)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            if (!eventAttendees.add(new Name(attendee))) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDEE);
+            }
         }
 
         if (eventName == null) {
@@ -76,10 +98,14 @@ class JsonAdaptedEvent {
         if (!EventName.isValidEventName(eventName)) {
             throw new IllegalValueException(EventName.MESSAGE_CONSTRAINTS);
         }
-        final EventName modelEventName = new EventName(eventName);
-        final EventDate modelEventDate = new EventDate(eventDate);
+        final EventName modelEventName = EventName.of(eventName);
+
+        if (!EventDate.isValidDate(eventDate)) {
+            throw new IllegalValueException(EventDate.MESSAGE_CONSTRAINTS);
+        }
+        final EventDate modelEventDate = EventDate.of(eventDate);
 
-        return new Event(modelEventName, modelEventDate, eventPersons);
+        return new Event(modelEventName, modelEventDate, eventAttendees);
     }
 
 }
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -19,6 +20,9 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The number of records read before they are converted together on all cores. */
+    static final int CONVERSION_BATCH_SIZE = 4096;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -38,6 +42,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the file cannot be loaded, the backup kept from before its last save is loaded instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +50,26 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        try {
+            return readAddressBookFile(filePath);
+        } catch (DataLoadingException e) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, loading backup " + backupFilePath);
+            return readAddressBookFile(backupFilePath);
         }
+    }
 
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        // Persons are converted in batches as they are read, so the whole file is never held in memory
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD_NAME,
+                    JsonAdaptedPerson.class, CONVERSION_BATCH_SIZE,
+                    persons -> JsonSerializableAddressBook.addAllToAddressBook(persons, addressBook));
+            return isFound ? Optional.of(addressBook) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +90,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonArrayFile(addressBook.getPersonList(), JsonAdaptedPerson::new,
+                JsonSerializableAddressBook.PERSONS_FIELD_NAME, filePath);
     }
 
 }
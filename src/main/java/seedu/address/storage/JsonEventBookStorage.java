@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EventBook;
 import seedu.address.model.ReadOnlyEventBook;
 
 /**
@@ -19,6 +20,9 @@ import seedu.address.model.ReadOnlyEventBook;
  */
 public class JsonEventBookStorage implements EventBookStorage {
 
+    /** The number of records read before they are converted together on all cores. */
+    static final int CONVERSION_BATCH_SIZE = 4096;
+
     private static final Logger logger = LogsCenter.getLogger(JsonEventBookStorage.class);
 
     private Path filePath;
@@ -38,6 +42,7 @@ public class JsonEventBookStorage implements EventBookStorage {
 
     /**
      * Similar to {@link #readEventBook()}.
+     * If the file cannot be loaded, the backup kept from before its last save is loaded instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +50,26 @@ public class JsonEventBookStorage implements EventBookStorage {
     public Optional<ReadOnlyEventBook> readEventBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableEventBook> jsonEventBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableEventBook.class);
-        if (!jsonEventBook.isPresent()) {
-            return Optional.empty();
+        try {
+            return readEventBookFile(filePath);
+        } catch (DataLoadingException e) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, loading backup " + backupFilePath);
+            return readEventBookFile(backupFilePath);
         }
+    }
 
+    private Optional<ReadOnlyEventBook> readEventBookFile(Path filePath) throws DataLoadingException {
+        // Events are converted in batches as they are read, so the whole file is never held in memory
+        EventBook eventBook = new EventBook();
         try {
-            return Optional.of(jsonEventBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableEventBook.EVENTS_FIELD_NAME,
+                    JsonAdaptedEvent.class, CONVERSION_BATCH_SIZE,
+                    events -> JsonSerializableEventBook.addAllToEventBook(events, eventBook));
+            return isFound ? Optional.of(eventBook) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +90,8 @@ public class JsonEventBookStorage implements EventBookStorage {
         requireNonNull(eventBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEventBook(eventBook), filePath);
+        JsonUtil.saveJsonArrayFile(eventBook.getEventList(), JsonAdaptedEvent::new,
+                JsonSerializableEventBook.EVENTS_FIELD_NAME, filePath);
     }
 
 }
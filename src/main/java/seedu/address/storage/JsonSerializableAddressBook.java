@@ -21,13 +21,15 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    static final String PERSONS_FIELD_NAME = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD_NAME) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -47,14 +49,37 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
+        addAllToAddressBook(persons, addressBook);
         return addressBook;
     }
 
+    /**
+     * Converts {@code jsonAdaptedPersons} into the model's {@code Person} objects in parallel,
+     * and adds them to {@code addressBook} in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addAllToAddressBook(List<JsonAdaptedPerson> jsonAdaptedPersons, AddressBook addressBook)
+            throws IllegalValueException {
+        ParallelConverter.convertAll(jsonAdaptedPersons, JsonAdaptedPerson::toModelType,
+                person -> addToAddressBook(person, addressBook));
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPerson} into the model's {@code Person} object and adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addToAddressBook(JsonAdaptedPerson jsonAdaptedPerson, AddressBook addressBook)
+            throws IllegalValueException {
+        addToAddressBook(jsonAdaptedPerson.toModelType(), addressBook);
+    }
+
+    private static void addToAddressBook(Person person, AddressBook addressBook) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
 }
@@ -21,13 +21,15 @@ class JsonSerializableEventBook {
 
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
 
+    static final String EVENTS_FIELD_NAME = "events";
+
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableEventBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableEventBook(@JsonProperty("events") List<JsonAdaptedEvent> events) {
+    public JsonSerializableEventBook(@JsonProperty(EVENTS_FIELD_NAME) List<JsonAdaptedEvent> events) {
         this.events.addAll(events);
     }
 
@@ -47,14 +49,36 @@ class JsonSerializableEventBook {
      */
     public EventBook toModelType() throws IllegalValueException {
         EventBook eventBook = new EventBook();
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (eventBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            eventBook.addEvent(event);
-        }
+        addAllToEventBook(events, eventBook);
         return eventBook;
     }
 
+    /**
+     * Converts {@code jsonAdaptedEvents} into the model's {@code Event} objects in parallel,
+     * and adds them to {@code eventBook} in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addAllToEventBook(List<JsonAdaptedEvent> jsonAdaptedEvents, EventBook eventBook)
+            throws IllegalValueException {
+        ParallelConverter.convertAll(jsonAdaptedEvents, JsonAdaptedEvent::toModelType,
+                event -> addToEventBook(event, eventBook));
+    }
+
+    /**
+     * Converts {@code jsonAdaptedEvent} into the model's {@code Event} object and adds it to {@code eventBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addToEventBook(JsonAdaptedEvent jsonAdaptedEvent, EventBook eventBook) throws IllegalValueException {
+        addToEventBook(jsonAdaptedEvent.toModelType(), eventBook);
+    }
+
+    private static void addToEventBook(Event event, EventBook eventBook) throws IllegalValueException {
+        if (eventBook.hasEvent(event)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        }
+        eventBook.addEvent(event);
+    }
+
 }
@@ -0,0 +1,332 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ChangeLog;
+
+/**
+ * An append-only journal of the changes made to a list of items since the list was last saved in full as a snapshot.
+ * <p>
+ * The first line of the journal file is a header holding the checksum of the snapshot that the journal applies to.
+ * A journal whose checksum does not match its snapshot was left behind by an interrupted compaction and is ignored.
+ * Every other line is a change record: {@code +<index> <item as json>} inserts an item at {@code index},
+ * and {@code -<index>} removes the item at {@code index}.
+ * An item replaced by a changed version of itself is recorded as {@code ~<index> <changes as json>} instead, if the
+ * journal can store only what changed, so that a small change to a large item does not store the whole item again.
+ * The records of each save are followed by a {@code #commit} line, and records without one were torn by a crash
+ * during the save, so they are dropped when the journal is replayed.
+ *
+ * @param <T> The type of the items in the list.
+ */
+abstract class ListJournal<T> {
+
+    /** Maximum number of change records in the journal before it should be compacted into a snapshot. */
+    static final int MAX_RECORD_COUNT = 1000;
+
+    static final String MESSAGE_INVALID_RECORD = "Journal contains an invalid record: %s";
+
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private static final String HEADER_PREFIX = "#snapshot ";
+    private static final String COMMIT_LINE = "#commit";
+    private static final String INSERT_PREFIX = "+";
+    private static final String REMOVE_PREFIX = "-";
+    private static final String CHANGE_PREFIX = "~";
+
+    private static final Logger logger = LogsCenter.getLogger(ListJournal.class);
+
+    private final Path journalFilePath;
+    private long savedVersion; // the version of the items in the snapshot and journal, 0 (no version) if not known
+    private int recordCount;
+
+    ListJournal(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    /**
+     * Returns the path of the journal file that belongs to the snapshot at {@code snapshotFilePath}.
+     */
+    static Path journalFilePathOf(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + ".journal");
+    }
+
+    /**
+     * Returns the checksum of the contents of {@code file}.
+     * The file is read in chunks, so that a large snapshot is never held in memory as a whole.
+     */
+    static long checksumOf(Path file) throws IOException {
+        try (CheckedInputStream input = new CheckedInputStream(Files.newInputStream(file), new CRC32())) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            while (input.read(buffer) != -1) {
+                // the stream updates the checksum with every chunk read
+            }
+            return input.getChecksum().getValue();
+        }
+    }
+
+    Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Returns the items of the snapshot with the changes in the journal applied to them.
+     * Records of a save that was not committed are dropped from the journal,
+     * and a journal that does not belong to the snapshot is replaced by an empty one.
+     * Changes can only be appended after the version of the returned items is set by {@link #setSavedVersion}.
+     *
+     * @param snapshotItems The items in the snapshot.
+     * @param snapshotChecksum The checksum of the snapshot file.
+     * @throws DataLoadingException if the journal could not be read or contains invalid committed records.
+     */
+    List<T> replay(List<T> snapshotItems, long snapshotChecksum) throws DataLoadingException {
+        List<T> items = new ArrayList<>(snapshotItems);
+        recordCount = 0;
+
+        String journal = readJournal();
+        List<String> lines = journal.lines().collect(Collectors.toCollection(ArrayList::new));
+        // The last line was torn by a crash while it was being written if it is not terminated
+        boolean hasIncompleteLastLine = !journal.isEmpty() && !journal.endsWith("\n");
+        if (hasIncompleteLastLine) {
+            lines.remove(lines.size() - 1);
+        }
+
+        boolean isJournalOfSnapshot = !lines.isEmpty() && lines.get(0).equals(HEADER_PREFIX + snapshotChecksum);
+        if (isJournalOfSnapshot) {
+            int committedLineCount = 1;
+            for (int i = 1; i < lines.size(); i++) {
+                if (lines.get(i).equals(COMMIT_LINE)) {
+                    applyRecords(lines.subList(committedLineCount, i), items);
+                    committedLineCount = i + 1;
+                }
+            }
+            if (committedLineCount < lines.size() || hasIncompleteLastLine) {
+                logger.warning("Dropping the records of an uncommitted save from journal file " + journalFilePath);
+                truncate(lines.subList(0, committedLineCount));
+            }
+        } else if (!lines.isEmpty()) {
+            logger.info("Ignoring journal file " + journalFilePath + " as it does not belong to its snapshot");
+            truncate(Collections.singletonList(HEADER_PREFIX + snapshotChecksum));
+        }
+
+        savedVersion = 0;
+        return items;
+    }
+
+    /**
+     * Sets the version of the items that are saved in the snapshot and journal,
+     * such as the version of the items returned by {@link #replay}.
+     */
+    void setSavedVersion(long version) {
+        savedVersion = version;
+    }
+
+    /**
+     * Appends the changes made to the items since they were saved, as recorded by {@code changeLog}, to the journal.
+     * Nothing is appended if the journal should be compacted instead, which is the case if the changes since the
+     * items were saved are not known or if the journal would grow beyond {@link #MAX_RECORD_COUNT} records.
+     *
+     * @return {@code true} if the journal is up to date with the items; {@code false} if it should be compacted.
+     * @throws IOException if there was an error writing to the journal file.
+     */
+    boolean append(ChangeLog<T> changeLog) throws IOException {
+        if (!Files.exists(journalFilePath)) {
+            return false;
+        }
+
+        Optional<List<ChangeLog.Change<T>>> changes = changeLog.getChangesSince(savedVersion);
+        if (changes.isEmpty() || recordCount + changes.get().size() > MAX_RECORD_COUNT) {
+            return false;
+        }
+
+        if (!changes.get().isEmpty()) {
+            List<String> records = toRecords(changes.get());
+            records.add(COMMIT_LINE);
+            writeRecords(records);
+            recordCount += records.size() - 1;
+        }
+        savedVersion = changeLog.getVersion();
+        return true;
+    }
+
+    /**
+     * Returns the records of {@code changes}, in which a removal followed by an insertion at the same index is a
+     * single change record if the changes between the removed and the inserted item can be stored.
+     */
+    private List<String> toRecords(List<ChangeLog.Change<T>> changes) throws IOException {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < changes.size(); i++) {
+            ChangeLog.Change<T> change = changes.get(i);
+            if (change.isInsertion()) {
+                records.add(INSERT_PREFIX + change.getIndex() + " " + toJson(change.getItem()));
+                continue;
+            }
+
+            ChangeLog.Change<T> nextChange = i + 1 < changes.size() ? changes.get(i + 1) : null;
+            Optional<String> delta = change.getRemovedItem().isPresent() && nextChange != null
+                    && nextChange.isInsertion() && nextChange.getIndex() == change.getIndex()
+                    ? toDelta(change.getRemovedItem().get(), nextChange.getItem())
+                    : Optional.empty();
+            if (delta.isPresent()) {
+                records.add(CHANGE_PREFIX + change.getIndex() + " " + delta.get());
+                i++;
+            } else {
+                records.add(REMOVE_PREFIX + change.getIndex());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Starts a new, empty journal after the items have been saved in full to the snapshot.
+     *
+     * @param savedVersion The version of the items in the snapshot.
+     * @param snapshotChecksum The checksum of the snapshot file.
+     * @throws IOException if there was an error writing to the journal file.
+     */
+    void reset(long savedVersion, long snapshotChecksum) throws IOException {
+        byte[] header = (HEADER_PREFIX + snapshotChecksum + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(journalFilePath, out -> out.write(header), false);
+        recordCount = 0;
+        this.savedVersion = savedVersion;
+    }
+
+    /**
+     * Appends {@code records} to the journal file and forces them to the disk,
+     * so that a save that returned is not lost on a crash.
+     */
+    private void writeRecords(List<String> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (String record : records) {
+            lines.append(record).append(System.lineSeparator());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private String readJournal() throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return "";
+        }
+
+        try {
+            return Files.readString(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Replaces the contents of the journal file with {@code lines}.
+     */
+    private void truncate(List<String> lines) throws DataLoadingException {
+        StringBuilder content = new StringBuilder();
+        for (String line : lines) {
+            content.append(line).append(System.lineSeparator());
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            FileUtil.writeAtomically(journalFilePath, out -> out.write(bytes), false);
+        } catch (IOException e) {
+            logger.warning("Error truncating journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private void applyRecords(List<String> records, List<T> items) throws DataLoadingException {
+        for (String record : records) {
+            try {
+                applyRecord(record, items);
+            } catch (IOException | IllegalValueException | IndexOutOfBoundsException e) {
+                logger.warning("Invalid record in journal file " + journalFilePath + ": " + record);
+                throw new DataLoadingException(
+                        new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record)));
+            }
+            recordCount++;
+        }
+    }
+
+    private void applyRecord(String record, List<T> items) throws IOException, IllegalValueException {
+        if (record.startsWith(REMOVE_PREFIX)) {
+            items.remove(parseIndex(record.substring(REMOVE_PREFIX.length())));
+            return;
+        }
+
+        int separatorIndex = record.indexOf(' ');
+        if (record.startsWith(CHANGE_PREFIX) && separatorIndex >= 0) {
+            int index = parseIndex(record.substring(CHANGE_PREFIX.length(), separatorIndex));
+            items.set(index, applyDelta(items.get(index), record.substring(separatorIndex + 1)));
+            return;
+        }
+        if (!record.startsWith(INSERT_PREFIX) || separatorIndex < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record));
+        }
+        int index = parseIndex(record.substring(INSERT_PREFIX.length(), separatorIndex));
+        items.add(index, fromJson(record.substring(separatorIndex + 1)));
+    }
+
+    private static int parseIndex(String index) throws IllegalValueException {
+        try {
+            return Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, index));
+        }
+    }
+
+    /**
+     * Returns the JSON representation of {@code item}, on a single line.
+     */
+    abstract String toJson(T item) throws IOException;
+
+    /**
+     * Returns the item that {@code json} represents.
+     *
+     * @throws IllegalValueException if the item violates data constraints.
+     */
+    abstract T fromJson(String json) throws IOException, IllegalValueException;
+
+    /**
+     * Returns the changes that turn {@code item} into {@code changedItem}, on a single line,
+     * or an empty {@code Optional} if the whole of {@code changedItem} should be stored instead.
+     * By default, the changes to an item are never stored.
+     */
+    Optional<String> toDelta(T item, T changedItem) throws IOException {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns {@code item} with the changes that {@code delta}, as returned by {@link #toDelta}, represents applied.
+     *
+     * @throws IllegalValueException if the changes cannot be applied to {@code item}.
+     */
+    T applyDelta(T item, String delta) throws IOException, IllegalValueException {
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, delta));
+    }
+}
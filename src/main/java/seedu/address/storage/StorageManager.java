@@ -23,6 +23,10 @@ public class StorageManager implements Storage {
 
     private EventBookStorage eventBookStorage;
 
+    // The versions of the books last saved to their default file paths, to skip unchanged saves; 0 is no version
+    private long lastSavedAddressBookVersion;
+    private long lastSavedEventBookVersion;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage}
      * and {@code UserPrefStorage} and {@code EventBookStorage}.
@@ -70,9 +74,21 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * The save is skipped if the version of {@code addressBook} is the one last saved by this method,
+     * which is also the case for a snapshot of the address book that was saved.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (addressBook.getVersion() == lastSavedAddressBookVersion) {
+            logger.fine("Address book is unchanged since the last save, skipping save");
+            return;
+        }
+
+        long version = addressBook.getVersion();
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        lastSavedAddressBookVersion = version;
     }
 
     @Override
@@ -98,9 +114,21 @@ public class StorageManager implements Storage {
         return eventBookStorage.readEventBook(filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * The save is skipped if the version of {@code eventBook} is the one last saved by this method,
+     * which is also the case for a snapshot of the event book that was saved.
+     */
     @Override
     public void saveEventBook(ReadOnlyEventBook eventBook) throws IOException {
+        if (eventBook.getVersion() == lastSavedEventBookVersion) {
+            logger.fine("Event book is unchanged since the last save, skipping save");
+            return;
+        }
+
+        long version = eventBook.getVersion();
         saveEventBook(eventBook, eventBookStorage.getEventBookFilePath());
+        lastSavedEventBookVersion = version;
     }
 
     @Override
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+
+/**
+ * Converts the data files of one storage format into another.
+ */
+public class StorageMigrator {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageMigrator.class);
+
+    /**
+     * Copies the address book in {@code source} to {@code target} if {@code target} has no data file yet.
+     * Nothing is done if {@code source} has no data file either.
+     *
+     * @return {@code true} if the address book was copied.
+     * @throws DataLoadingException if the address book in {@code source} could not be read.
+     * @throws IOException if the address book could not be written to {@code target}.
+     */
+    public static boolean migrateAddressBook(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        if (Files.exists(target.getAddressBookFilePath())) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+
+        logger.info("Migrating " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Copies the event book in {@code source} to {@code target} if {@code target} has no data file yet.
+     * Nothing is done if {@code source} has no data file either.
+     *
+     * @return {@code true} if the event book was copied.
+     * @throws DataLoadingException if the event book in {@code source} could not be read.
+     * @throws IOException if the event book could not be written to {@code target}.
+     */
+    public static boolean migrateEventBook(EventBookStorage source, EventBookStorage target)
+            throws DataLoadingException, IOException {
+        if (Files.exists(target.getEventBookFilePath())) {
+            return false;
+        }
+
+        Optional<ReadOnlyEventBook> eventBook = source.readEventBook();
+        if (!eventBook.isPresent()) {
+            return false;
+        }
+
+        logger.info("Migrating " + source.getEventBookFilePath() + " to " + target.getEventBookFilePath());
+        target.saveEventBook(eventBook.get());
+        return true;
+    }
+}
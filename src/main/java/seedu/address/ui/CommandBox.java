@@ -1,9 +1,11 @@
 package seedu.address.ui;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,8 +17,11 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    /** How long typing must pause before the command being typed is previewed. */
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
 
     @FXML
     private TextField commandTextField;
@@ -25,10 +30,23 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, unused -> { });
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that previews the command being typed
+     * with {@code commandPreviewer} once typing pauses.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        previewDelay.setOnFinished(unused -> commandPreviewer.preview(commandTextField.getText()));
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box,
+        // and restarts the delay before previewing it.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            previewDelay.playFromStart();
+        });
     }
 
     /**
@@ -40,6 +58,7 @@ public class CommandBox extends UiPart<Region> {
         if (commandText.equals("")) {
             return;
         }
+        previewDelay.stop();
 
         try {
             commandExecutor.execute(commandText);
@@ -82,4 +101,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can preview commands that are still being typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the command.
+         *
+         * @see seedu.address.logic.Logic#previewCommand(String)
+         */
+        void preview(String commandText);
+    }
+
 }
@@ -8,6 +8,7 @@ import seedu.address.model.event.Event;
 
 /**
  * A UI component that displays information of an {@code Event}.
+ * Like a {@link PersonCard}, a list cell keeps one card and shows each of its events on it in turn.
  */
 public class EventCard extends UiPart<Region> {
 
@@ -24,10 +25,16 @@ public class EventCard extends UiPart<Region> {
     private Label date;
 
     /**
-     * Creates a {@code EventCard} with the given {@code Event} and index to display.
+     * Creates an empty {@code EventCard}, to be filled by {@link #setEvent(Event, int)}.
      */
-    public EventCard(Event event, int displayedIndex) {
+    public EventCard() {
         super(FXML);
+    }
+
+    /**
+     * Shows {@code event} with the index {@code displayedIndex} on this card, in place of the event shown before.
+     */
+    public void setEvent(Event event, int displayedIndex) {
         id.setText(displayedIndex + ". ");
         name.setText(event.getEventName().eventName);
         date.setText(event.getEventDate().toString());
@@ -5,6 +5,7 @@ import java.util.logging.Logger;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
@@ -16,6 +17,7 @@ import seedu.address.model.event.Event;
  */
 public class EventListPanel extends UiPart<Region> {
     private static final String FXML = "EventListPanel.fxml";
+    private static final String LOADING_MESSAGE = "Loading events...";
     private final Logger logger = LogsCenter.getLogger(EventListPanel.class);
 
     @FXML
@@ -23,11 +25,20 @@ public class EventListPanel extends UiPart<Region> {
 
     /**
      * Creates an {@code EventListPanel} with the given {@code ObservableList}.
+     * While {@code isEventBookLoaded} is false, the panel shows that the events are loading if none are shown yet.
      */
-    public EventListPanel(ObservableList<Event> eventList, ObservableValue<Event> selectedEvent) {
+    public EventListPanel(ObservableList<Event> eventList, ObservableValue<Event> selectedEvent,
+            ObservableValue<Boolean> isEventBookLoaded) {
         super(FXML);
         eventListView.setItems(eventList);
         eventListView.setCellFactory(listView -> new EventListViewCell(selectedEvent));
+
+        updatePlaceholder(isEventBookLoaded.getValue());
+        isEventBookLoaded.addListener((observable, wasLoaded, isLoaded) -> updatePlaceholder(isLoaded));
+    }
+
+    private void updatePlaceholder(boolean isEventBookLoaded) {
+        eventListView.setPlaceholder(isEventBookLoaded ? null : new Label(LOADING_MESSAGE));
     }
 
     /**
@@ -35,6 +46,8 @@ public class EventListPanel extends UiPart<Region> {
      */
     class EventListViewCell extends ListCell<Event> {
         private final ObservableValue<Event> selectedEvent;
+        // Created when the cell first shows an event, then reused for every event the cell shows
+        private EventCard eventCard;
 
         public EventListViewCell(ObservableValue<Event> selectedEvent) {
             this.selectedEvent = selectedEvent;
@@ -53,7 +66,11 @@ public class EventListPanel extends UiPart<Region> {
                 setStyle("");
                 setBorder(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                if (eventCard == null) {
+                    eventCard = new EventCard();
+                }
+                eventCard.setEvent(event, getIndex() + 1);
+                setGraphic(eventCard.getRoot());
                 updateCellStyle(selectedEvent.getValue());
             }
         }
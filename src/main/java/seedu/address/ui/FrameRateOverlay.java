@@ -0,0 +1,80 @@
+package seedu.address.ui;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.control.Label;
+
+/**
+ * An overlay that shows how fast the window is being drawn, for measuring how smoothly the lists scroll.
+ * <p>
+ * While shown, it asks for a new frame to be drawn on every pulse, so an idle window shows the highest frame rate
+ * that the screen allows. The longest frame time shows the worst stutter in the last interval.
+ */
+public class FrameRateOverlay extends UiPart<Label> {
+
+    private static final String FXML = "FrameRateOverlay.fxml";
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AnimationTimer frameTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            recordFrame(now);
+        }
+    };
+
+    // -1 until the first frame after the overlay is shown
+    private long previousFrameNanos = -1;
+    private long intervalStartNanos;
+    private int framesInInterval;
+    private long longestFrameNanos;
+
+    /**
+     * Creates a hidden {@code FrameRateOverlay}.
+     */
+    public FrameRateOverlay() {
+        super(FXML);
+        getRoot().setVisible(false);
+    }
+
+    /**
+     * Shows the overlay and starts measuring frames if it is hidden, and hides it and stops measuring otherwise.
+     */
+    public void toggle() {
+        if (getRoot().isVisible()) {
+            frameTimer.stop();
+            getRoot().setVisible(false);
+            return;
+        }
+
+        previousFrameNanos = -1;
+        getRoot().setText("Measuring...");
+        getRoot().setVisible(true);
+        frameTimer.start();
+    }
+
+    private void recordFrame(long nowNanos) {
+        if (previousFrameNanos < 0) {
+            previousFrameNanos = nowNanos;
+            intervalStartNanos = nowNanos;
+            framesInInterval = 0;
+            longestFrameNanos = 0;
+            return;
+        }
+
+        longestFrameNanos = Math.max(longestFrameNanos, nowNanos - previousFrameNanos);
+        previousFrameNanos = nowNanos;
+        framesInInterval++;
+
+        long intervalNanos = nowNanos - intervalStartNanos;
+        if (intervalNanos >= REFRESH_INTERVAL_NANOS) {
+            double averageFrameMillis = intervalNanos / NANOS_PER_MILLI / framesInInterval;
+            getRoot().setText(String.format("%.0f FPS | %.1f ms avg | %.1f ms max", 1000 / averageFrameMillis,
+                    averageFrameMillis, longestFrameNanos / NANOS_PER_MILLI));
+            intervalStartNanos = nowNanos;
+            framesInInterval = 0;
+            longestFrameNanos = 0;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -36,6 +37,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListOfSelectedEventPanel personListOfSelectedEventPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private FrameRateOverlay frameRateOverlay;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -43,6 +45,12 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private MenuItem helpMenuItem;
 
+    @FXML
+    private MenuItem frameRateMenuItem;
+
+    @FXML
+    private StackPane frameRateOverlayPlaceholder;
+
     @FXML
     private StackPane eventListPanelPlaceholder;
 
@@ -82,6 +90,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
+        setAccelerator(frameRateMenuItem, KeyCombination.valueOf("F12"));
     }
 
     /**
@@ -121,7 +130,8 @@ public class MainWindow extends UiPart<Stage> {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        eventListPanel = new EventListPanel(logic.getFilteredEventList(), logic.getSelectedEvent());
+        eventListPanel = new EventListPanel(logic.getFilteredEventList(), logic.getSelectedEvent(),
+                logic.getEventBookLoaded());
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
         personListOfSelectedEventPanel = new PersonListOfSelectedEventPanel(logic.getSelectedEvent(),
@@ -130,12 +140,17 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+        logic.setLoadFailureHandler(resultDisplay::setFeedbackToUser);
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        frameRateOverlay = new FrameRateOverlay();
+        frameRateOverlayPlaceholder.getChildren().add(frameRateOverlay.getRoot());
     }
 
     /**
@@ -162,6 +177,14 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows the frame rate overlay, or hides it if it is shown.
+     */
+    @FXML
+    private void handleFrameRate() {
+        frameRateOverlay.toggle();
+    }
+
     void show() {
         primaryStage.show();
     }
@@ -1,16 +1,20 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.Set;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * Loading a card from FXML is slow, so a list cell keeps one card and shows each of its persons on it in turn.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -24,7 +28,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -42,18 +46,46 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane tags;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates an empty {@code PersonCard}, to be filled by {@link #setPerson(Person, int)}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
+    }
+
+    /**
+     * Shows {@code person} with the index {@code displayedIndex} on this card, in place of the person shown before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(person.getTags());
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code personTags} on the tag labels already on this card, adding or removing labels as needed.
+     */
+    private void setTags(Set<Tag> personTags) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        int count = 0;
+        // The tags of a person are already in tag name order
+        for (Tag tag : personTags) {
+            if (count < tagLabels.size()) {
+                ((Label) tagLabels.get(count)).setText(tag.tagName);
+            } else {
+                tagLabels.add(new Label(tag.tagName));
+            }
+            count++;
+        }
+        if (count < tagLabels.size()) {
+            tagLabels.remove(count, tagLabels.size());
+        }
     }
 }
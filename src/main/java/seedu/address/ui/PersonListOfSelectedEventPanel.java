@@ -60,6 +60,9 @@ public class PersonListOfSelectedEventPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
     class PersonListOfSelectedEventViewCell extends ListCell<Person> {
+        // Created when the cell first shows a person, then reused for every person the cell shows
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -68,7 +71,11 @@ public class PersonListOfSelectedEventPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -39,10 +39,27 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validSyntheticCounts_success() {
+        parametersStub.namedParameters.put("synthetic-persons", "100000");
+        parametersStub.namedParameters.put("synthetic-events", " 0 ");
+        expected.setSyntheticPersonCount(100000);
+        expected.setSyntheticEventCount(0);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidSyntheticCounts_success() {
+        parametersStub.namedParameters.put("synthetic-persons", "many");
+        parametersStub.namedParameters.put("synthetic-events", "-1");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", syntheticPersonCount=null, syntheticEventCount=null}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +83,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different synthetic person count -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setSyntheticPersonCount(1000);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,21 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class StorageFormatTest {
+
+    @Test
+    public void toFilePath() {
+        assertEquals(Paths.get("data", "addressbook.json"), StorageFormat.JSON.toFilePath(Paths.get("data",
+                "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"), StorageFormat.BINARY.toFilePath(Paths.get("data",
+                "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"), StorageFormat.BINARY.toFilePath(Paths.get("data",
+                "addressbook")));
+        assertEquals(Paths.get(".data.bin"), StorageFormat.BINARY.toFilePath(Paths.get(".data")));
+    }
+}
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,51 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_missingParentDirectory_success() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        writeAtomically(file, "content", true);
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_keepsPreviousContentAsBackup() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        writeAtomically(file, "first", true);
+        writeAtomically(file, "second", true);
+        writeAtomically(file, "third", true);
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_withoutBackup_noBackupFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        writeAtomically(file, "first", false);
+        writeAtomically(file, "second", false);
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        writeAtomically(file, "first", true);
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException();
+        }, true));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            // No temporary file is left behind
+            assertEquals(1, files.count());
+        }
+    }
+
+    private void writeAtomically(Path file, String content, boolean shouldKeepBackup) throws IOException {
+        FileUtil.writeAtomically(file, out -> out.write(content.getBytes(StandardCharsets.UTF_8)), shouldKeepBackup);
+    }
+
 }
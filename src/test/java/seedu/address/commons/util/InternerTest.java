@@ -0,0 +1,49 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstValue() {
+        String first = new String("friends");
+        String second = new String("friends");
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertNotSame(first, interner.intern(new String("colleagues")));
+    }
+
+    @Test
+    public void intern_equalValuesOnManyThreads_returnsSameValue() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                results.add(executor.submit(() -> interner.intern(new String("friends"))));
+            }
+            String canonicalValue = interner.intern(new String("friends"));
+            for (Future<String> result : results) {
+                assertSame(canonicalValue, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +47,41 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonArrayFile_thenReadJsonArrayFile_sameElements() throws Exception {
+        List<String> elements = Arrays.asList("first", "second", "third");
+        JsonUtil.saveJsonArrayFile(elements, String::toUpperCase, "elements", SERIALIZATION_FILE);
+
+        List<String> readElements = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, readElements::add));
+        assertEquals(Arrays.asList("FIRST", "SECOND", "THIRD"), readElements);
+    }
+
+    @Test
+    public void readJsonArrayFile_otherFields_otherFieldsSkipped() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE,
+                "{\"before\": {\"elements\": [\"nested\"]}, \"elements\": [\"first\"], \"after\": [1, 2]}");
+
+        List<String> readElements = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, readElements::add));
+        assertEquals(Collections.singletonList("first"), readElements);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+        assertFalse(JsonUtil.readJsonArrayFile(missingFile, "elements", String.class, element -> {
+            throw new AssertionError("No element should be read.");
+        }));
+    }
+
+    @Test
+    public void readJsonArrayFile_notJsonObject_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[\"first\"]");
+        assertThrows(DataLoadingException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, element -> { }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
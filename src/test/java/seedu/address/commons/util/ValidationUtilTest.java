@@ -0,0 +1,68 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    // Characters on both sides of every range the validators check, and non-ASCII letters and digits
+    private static final String ALPHABET = "09/:aA`{zZ@[ \t\n_-é٣";
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric("friends2"));
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("best friends"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+    }
+
+    @Test
+    public void isAlphanumericWithSpaces() {
+        assertTrue(ValidationUtil.isAlphanumericWithSpaces("Alice  Pauline 2nd "));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(""));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(" Alice"));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces("Alice\tPauline"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWithSpaces(null));
+    }
+
+    @Test
+    public void isDigits() {
+        assertTrue(ValidationUtil.isDigits("911", 3));
+        assertFalse(ValidationUtil.isDigits("91", 3));
+        assertFalse(ValidationUtil.isDigits("9011p041", 3));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3));
+    }
+
+    @Test
+    public void validators_allShortStrings_sameAsRegex() {
+        for (String test : getAllStringsUpToLength(4)) {
+            assertEquals(test.matches("\\p{Alnum}+"), ValidationUtil.isAlphanumeric(test), test);
+            assertEquals(test.matches("[\\p{Alnum}][\\p{Alnum} ]*"), ValidationUtil.isAlphanumericWithSpaces(test),
+                    test);
+            assertEquals(test.matches("\\d{3,}"), ValidationUtil.isDigits(test, 3), test);
+        }
+    }
+
+    private static List<String> getAllStringsUpToLength(int maxLength) {
+        List<String> strings = new ArrayList<>();
+        strings.add("");
+        int start = 0;
+        for (int length = 1; length <= maxLength; length++) {
+            int end = strings.size();
+            for (int i = start; i < end; i++) {
+                for (char c : ALPHABET.toCharArray()) {
+                    strings.add(strings.get(i) + c);
+                }
+            }
+            start = end;
+        }
+        return strings;
+    }
+}
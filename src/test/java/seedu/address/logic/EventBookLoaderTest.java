@@ -0,0 +1,85 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class EventBookLoaderTest {
+
+    private final List<Runnable> pendingBatches = new ArrayList<>();
+    private Model model;
+    private EventBookLoader eventBookLoader;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        eventBookLoader = new EventBookLoader(model, pendingBatches::add);
+    }
+
+    @Test
+    public void load_eventBookRead_eventsAddedInBatches() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+        AddressBook addressBook = generator.generateAddressBook(300);
+        EventBook eventBook = generator.generateEventBook(EventBookLoader.EVENTS_PER_BATCH * 2 + 1, addressBook);
+        model.setAddressBook(addressBook);
+
+        CompletableFuture<EventBook> eventBookFuture = new CompletableFuture<>();
+        eventBookLoader.load(eventBookFuture);
+        assertFalse(model.isEventBookLoaded());
+        assertTrue(model.getEventBook().getEventList().isEmpty());
+
+        eventBookFuture.complete(eventBook);
+        runPendingBatch();
+        assertFalse(model.isEventBookLoaded());
+        assertEquals(EventBookLoader.EVENTS_PER_BATCH, model.getEventBook().getEventList().size());
+
+        runPendingBatch();
+        runPendingBatch();
+        assertTrue(pendingBatches.isEmpty());
+        assertTrue(model.isEventBookLoaded());
+        assertTrue(model.canSaveEventBook());
+        assertEquals(eventBook.getEventList(), model.getEventBook().getEventList());
+    }
+
+    @Test
+    public void load_emptyEventBook_loaded() {
+        eventBookLoader.load(CompletableFuture.completedFuture(new EventBook()));
+        runPendingBatch();
+        assertTrue(model.isEventBookLoaded());
+    }
+
+    @Test
+    public void load_eventBookNotRead_loadedEmptyAndNotSaved() {
+        List<String> failureMessages = new ArrayList<>();
+        eventBookLoader.setFailureHandler(failureMessages::add);
+        model.setEventBook(getTypicalEventBook());
+
+        eventBookLoader.load(CompletableFuture.failedFuture(new IllegalStateException()));
+        assertFalse(model.isEventBookLoaded());
+
+        runPendingBatch();
+        assertTrue(pendingBatches.isEmpty());
+        assertTrue(model.isEventBookLoaded());
+        assertFalse(model.canSaveEventBook());
+        assertTrue(model.getEventBook().getEventList().isEmpty());
+        assertEquals(List.of(Messages.MESSAGE_EVENT_BOOK_LOAD_FAILED), failureMessages);
+    }
+
+    private void runPendingBatch() {
+        pendingBatches.remove(0).run();
+    }
+}
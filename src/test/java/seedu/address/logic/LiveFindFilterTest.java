@@ -0,0 +1,111 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.export.PersonDataExporter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveFindFilterTest {
+
+    private Model model;
+    private LiveFindFilter liveFindFilter;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalEventBook(),
+                new PersonDataExporter());
+        liveFindFilter = new LiveFindFilter(model);
+    }
+
+    @Test
+    public void filter_findCommand_filtersPersonList() {
+        liveFindFilter.filter("find n/alice carl");
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_changedFindCommand_filtersPersonList() {
+        liveFindFilter.filter("find t/friends");
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        liveFindFilter.filter("find t/friends t/owesMoney");
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+
+        liveFindFilter.filter("find n/kurz");
+        assertEquals(Arrays.asList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_fuzzyFindCommand_filtersPersonList() {
+        liveFindFilter.filter("find fn/alce");
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_personEditedAfterFilter_shownIfMatching() {
+        liveFindFilter.filter("find n/kurz");
+        Person renamedElle = new PersonBuilder(ELLE).withName("Elle Kurz").build();
+        model.setPerson(ELLE, renamedElle);
+        assertEquals(Arrays.asList(CARL, renamedElle), model.getFilteredPersonList());
+
+        // the same query typed again still shows the edited person
+        liveFindFilter.filter("find n/kurz ");
+        assertEquals(Arrays.asList(CARL, renamedElle), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_personEditedToMatchAfterFilter_shown() {
+        liveFindFilter.filter("find n/meier t/friends");
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        Person editedElle = new PersonBuilder(ELLE).withName("Elle Meier").withTags("friends").build();
+        model.setPerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(BENSON, DANIEL, editedElle), model.getFilteredPersonList());
+
+        // persons changed after the query is typed again are also shown
+        liveFindFilter.filter("find n/meier t/friends t/owesMoney");
+        Person editedDaniel = new PersonBuilder(DANIEL).withTags("friends", "owesMoney").build();
+        model.setPerson(DANIEL, editedDaniel);
+        assertEquals(Arrays.asList(BENSON, editedDaniel), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_invalidFindCommand_personListUnchanged() {
+        liveFindFilter.filter("find n/alice");
+        liveFindFilter.filter("find n/");
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_notFindCommand_showsAllPersons() {
+        liveFindFilter.filter("find n/alice");
+        liveFindFilter.filter("fin");
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_appliedQuery_sameQueryAppliedAgain() {
+        liveFindFilter.filter("find n/alice");
+        liveFindFilter.cancel();
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+
+        liveFindFilter.filter("find n/alice");
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,7 +14,12 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -75,14 +82,43 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_eventBookLoading_onlyCommandsWithoutEventsExecuted() throws Exception {
+        model.startLoadingEventBook();
+        assertCommandException("addev ev/Bingo d/05-07-2024", Messages.MESSAGE_EVENT_BOOK_LOADING);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS_GLOBAL, model);
+    }
+
+    @Test
+    public void loadEventBook_corruptDataFile_dataFileNotOverwritten() throws Exception {
+        Path eventBookFilePath = temporaryFolder.resolve("corruptEventBook.json");
+        String corruptData = "{ \"events\" : [ { \"eventName\" : \"Bingo\", \"eventDate\" : \"2024/04/05\" } ] }";
+        Files.writeString(eventBookFilePath, corruptData);
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonEventBookStorage(eventBookFilePath));
+        logic = new LogicManager(model, storage, Runnable::run);
+        List<String> failureMessages = new ArrayList<>();
+        logic.setLoadFailureHandler(failureMessages::add);
+
+        logic.loadEventBook(CompletableFuture.supplyAsync(() -> EventBookLoader.readEventBook(storage), Runnable::run));
+        assertEquals(List.of(Messages.MESSAGE_EVENT_BOOK_LOAD_FAILED), failureMessages);
+        assertTrue(model.isEventBookLoaded());
+
+        logic.execute("addev ev/Bingo d/05-07-2024");
+        logic.flushSaves();
+        assertEquals(corruptData, Files.readString(eventBookFilePath));
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -157,10 +193,12 @@ public class LogicManagerTest {
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
+     * The command itself succeeds, and the failure is reported to the save failure handler once it is saved.
+     *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -185,6 +223,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, eventBookStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -192,6 +232,13 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        logic.flushSaves();
+
+        assertEquals(expectedModel, model);
+        assertFalse(reportedMessages.isEmpty());
+        for (String reportedMessage : reportedMessages) {
+            assertEquals(expectedMessage, reportedMessage);
+        }
     }
 }
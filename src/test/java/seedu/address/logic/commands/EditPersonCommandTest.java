@@ -132,8 +132,9 @@ public class EditPersonCommandTest {
 
         expectedModel.setPerson(lastPerson, editedPerson);
 
-        Person personOfEventList = expectedModel.getFilteredEventList().get(0).getPersonList().get(0);
+        Person personOfEventList = expectedModel.getFilteredPersonListOfSelectedEvent().get(0);
         assertEquals(personOfEventList, editedPerson);
+        assertTrue(expectedModel.getFilteredEventList().get(0).hasPerson(editedPerson));
     }
 
 
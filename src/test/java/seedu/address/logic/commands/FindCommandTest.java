@@ -6,9 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -16,8 +24,14 @@ import seedu.address.export.PersonDataExporter;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.NameAndTagCombinedPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EventBookBuilder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -68,6 +82,117 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_multipleKeywords_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameAndTagCombinedPredicate predicate = new NameAndTagCombinedPredicate(
+                Arrays.asList("Kurz", "ELLE", "kunz"), null);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleTags_personsWithAllTagsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        NameAndTagCombinedPredicate predicate = new NameAndTagCombinedPredicate(null,
+                Set.of(new Tag("friends"), new Tag("owesMoney")));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_keywordsAndTag_personsMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameAndTagCombinedPredicate predicate = new NameAndTagCombinedPredicate(
+                Arrays.asList("alice", "meier", "kurz"), Set.of(new Tag("friends")));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_personsWithSimilarNamesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameAndTagCombinedPredicate predicate = new NameAndTagCombinedPredicate(
+                new NameContainsKeywordsPredicate(Arrays.asList("kurt", "Fio"), true), null);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedAfterFind_shownIfMatching() {
+        new FindCommand(new NameAndTagCombinedPredicate(Arrays.asList("kurz"), null)).execute(model);
+        assertEquals(Arrays.asList(CARL), model.getFilteredPersonList());
+
+        Person renamedElle = new PersonBuilder(ELLE).withName("Elle Kurz").build();
+        model.setPerson(ELLE, renamedElle);
+        assertEquals(Arrays.asList(CARL, renamedElle), model.getFilteredPersonList());
+
+        model.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Lee").build());
+        assertEquals(Arrays.asList(renamedElle), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personAddedAfterFindInSelectedEvent_shownIfMatching() {
+        Person alex = new PersonBuilder().withName("Alex Yeoh").build();
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(alex).build();
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(),
+                new EventBookBuilder().withEvent(event).build(), new PersonDataExporter());
+        model.selectEvent(event);
+
+        new FindCommand(new NameAndTagCombinedPredicate(Arrays.asList("alex"), null)).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonListOfSelectedEvent());
+
+        model.addPerson(alex);
+        assertEquals(Arrays.asList(alex), model.getFilteredPersonListOfSelectedEvent());
+    }
+
+    @Test
+    public void execute_tagAddedAfterFind_personShown() {
+        new FindCommand(new NameAndTagCombinedPredicate(null, Set.of(new Tag("friends")))).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, BENSON, editedCarl, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagAddedAfterFindInSelectedEvent_personShown() {
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build();
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(),
+                new EventBookBuilder().withEvent(event).build(), new PersonDataExporter());
+        model.selectEvent(event);
+
+        new FindCommand(new NameAndTagCombinedPredicate(null, Set.of(new Tag("friends")))).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonListOfSelectedEvent());
+
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, BENSON, editedCarl), model.getFilteredPersonListOfSelectedEvent());
+    }
+
+    @Test
+    public void execute_tagRemovedAfterFindInSelectedEvent_personHidden() {
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build();
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(),
+                new EventBookBuilder().withEvent(event).build(), new PersonDataExporter());
+        model.selectEvent(event);
+
+        new FindCommand(new NameAndTagCombinedPredicate(null, Set.of(new Tag("friends")))).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonListOfSelectedEvent());
+
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withTags("owesMoney").build());
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonListOfSelectedEvent());
+    }
+
     @Test
     public void toStringMethod() {
         NameAndTagCombinedPredicate predicate = new NameAndTagCombinedPredicate(
@@ -6,12 +6,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DESC;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameAndTagCombinedPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
@@ -36,6 +38,20 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, VALID_TAG_DESC, expectedFindCommandByTag);
     }
 
+    @Test
+    public void parse_fuzzyName_returnsFuzzyFindCommand() {
+        NameAndTagCombinedPredicate predicate = new NameAndTagCombinedPredicate(
+                new NameContainsKeywordsPredicate(Arrays.asList("alce", "bo"), true), null);
+        assertParseSuccess(parser, " fn/alce  bo", new FindCommand(predicate));
+    }
+
+    @Test
+    public void parse_nameAndFuzzyName_throwsParseException() {
+        assertParseFailure(parser, " n/alice fn/bob",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " fn/ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // Test for invalid argument (empty string)
@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_addressBookChangedAfterSnapshot_snapshotUnchanged() {
+        AddressBook addressBook = getTypicalAddressBook();
+        long version = addressBook.getVersion();
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+
+        assertEquals(getTypicalAddressBook().getPersonList(), snapshot.getPersonList());
+        assertEquals(version, snapshot.getVersion());
+        assertEquals(Optional.of(ALICE), snapshot.getPerson(ALICE.getName()));
+        assertEquals(Optional.empty(), snapshot.getPerson(HOON.getName()));
+    }
+
+    @Test
+    public void getPersonChangeLog_addressBookChangedAfterSnapshot_changesUpToSnapshotOnly() {
+        AddressBook addressBook = getTypicalAddressBook();
+        long version = addressBook.getVersion();
+        addressBook.addPerson(HOON);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        addressBook.removePerson(ALICE);
+
+        assertEquals(1, snapshot.getPersonChangeLog().getChangesSince(version).get().size());
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -13,11 +14,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -78,6 +81,31 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPerson_personInAddressBook_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.getPerson(ALICE.getName()));
+    }
+
+    @Test
+    public void getPerson_personNotInAddressBook_returnsEmpty() {
+        assertEquals(Optional.empty(), addressBook.getPerson(ALICE.getName()));
+    }
+
+    @Test
+    public void getVersion_addressBookModified_versionChanges() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        addressBook.hasPerson(ALICE);
+        assertEquals(versionAfterAdd, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -103,6 +131,21 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public Optional<Person> getPerson(Name name) {
+            return persons.stream().filter(person -> person.getName().equals(name)).findFirst();
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public ChangeLog<Person> getPersonChangeLog() {
+            return new ChangeLog<>();
+        }
     }
 
 }
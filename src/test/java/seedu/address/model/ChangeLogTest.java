@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class ChangeLogTest {
+
+    private final ChangeLog<Person> changeLog = new ChangeLog<>();
+
+    @Test
+    public void getChangesSince_currentVersion_returnsNoChanges() {
+        assertEquals(List.of(), changeLog.getChangesSince(changeLog.getVersion()).get());
+    }
+
+    @Test
+    public void getChangesSince_earlierVersion_returnsChangesInOrder() {
+        long version = changeLog.getVersion();
+        changeLog.recordInsert(0, ALICE);
+        changeLog.commit();
+        changeLog.recordSet(0, ALICE, BENSON);
+        changeLog.commit();
+
+        List<ChangeLog.Change<Person>> changes = changeLog.getChangesSince(version).get();
+        assertEquals(3, changes.size());
+        assertTrue(changes.get(0).isInsertion());
+        assertEquals(ALICE, changes.get(0).getItem());
+        assertFalse(changes.get(1).isInsertion());
+        assertEquals(0, changes.get(1).getIndex());
+        assertEquals(Optional.of(ALICE), changes.get(1).getRemovedItem());
+        assertEquals(BENSON, changes.get(2).getItem());
+    }
+
+    @Test
+    public void getChangesSince_versionOfOtherLog_returnsEmpty() {
+        ChangeLog<Person> otherChangeLog = new ChangeLog<>();
+        changeLog.recordInsert(0, ALICE);
+        changeLog.commit();
+
+        assertNotEquals(otherChangeLog.getVersion(), changeLog.getVersion());
+        assertFalse(changeLog.getChangesSince(otherChangeLog.getVersion()).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_versionBeforeReset_returnsEmpty() {
+        long version = changeLog.getVersion();
+        changeLog.reset();
+        assertFalse(changeLog.getChangesSince(version).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_tooManyChanges_olderChangesForgotten() {
+        long version = changeLog.getVersion();
+        for (int i = 0; i <= ChangeLog.MAX_CHANGE_COUNT; i++) {
+            changeLog.recordInsert(i, ALICE);
+        }
+        changeLog.commit();
+
+        assertFalse(changeLog.getChangesSince(version).isPresent());
+        assertEquals(List.of(), changeLog.getChangesSince(changeLog.getVersion()).get());
+    }
+
+    @Test
+    public void resetTo_otherLog_continuesChangesOfOtherLog() {
+        ChangeLog<Person> otherChangeLog = new ChangeLog<>();
+        long version = otherChangeLog.getVersion();
+        otherChangeLog.recordInsert(0, ALICE);
+        otherChangeLog.commit();
+
+        changeLog.resetTo(otherChangeLog);
+        changeLog.recordRemove(0);
+        changeLog.commit();
+
+        assertEquals(2, changeLog.getChangesSince(version).get().size());
+        assertEquals(1, otherChangeLog.getChangesSince(version).get().size());
+    }
+}
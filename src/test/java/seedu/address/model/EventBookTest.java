@@ -2,14 +2,23 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.TypicalEvents.getBingoEvent;
+import static seedu.address.testutil.TypicalEvents.getHikingEvent;
 import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -20,7 +29,9 @@ import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class EventBookTest {
 
@@ -116,10 +127,147 @@ public class EventBookTest {
         Event event = getBingoEvent();
         EventBook eventbook = new EventBook();
         eventbook.addEvent(event);
-        eventBook.selectEvent(event);
+        eventBook.selectEvent(event, new AddressBook());
         assertEquals(event, eventBook.getSelectedEvent().getValue());
     }
 
+    @Test
+    public void selectEvent_eventWithPersons_resolvesPersonsAgainstAddressBook() {
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        eventBook.addEvent(event);
+        eventBook.selectEvent(event, getTypicalAddressBook());
+        assertEquals(Arrays.asList(ALICE, BENSON), eventBook.getPersonsOfSelectedEventList());
+    }
+
+    @Test
+    public void editPersonInAllEvents_editedName_updatesEventsAndSelectedPersons() {
+        Event event = new EventBuilder().withPerson(ALICE).build();
+        eventBook.addEvent(event);
+        eventBook.selectEvent(event, getTypicalAddressBook());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        eventBook.editPersonInAllEvents(ALICE, editedAlice);
+
+        Event editedEvent = eventBook.getEventList().get(0);
+        assertTrue(editedEvent.hasPerson(editedAlice));
+        assertFalse(editedEvent.hasPerson(ALICE));
+        assertTrue(event.hasPerson(ALICE)); // the events in the list are replaced instead of changed in place
+        assertEquals(Collections.singletonList(editedAlice), eventBook.getPersonsOfSelectedEventList());
+    }
+
+    @Test
+    public void deletePersonFromAllEvents_personInEvents_removesPersonFromEvents() {
+        Event bingo = new EventBuilder(getBingoEvent()).withPerson(ALICE).withPerson(BENSON).build();
+        Event hiking = new EventBuilder(getHikingEvent()).withPerson(ALICE).build();
+        eventBook.addEvent(bingo);
+        eventBook.addEvent(hiking);
+        eventBook.selectEvent(bingo, getTypicalAddressBook());
+
+        eventBook.deletePersonFromAllEvents(ALICE);
+
+        assertFalse(eventBook.getEventList().get(0).hasPerson(ALICE));
+        assertFalse(eventBook.getEventList().get(1).hasPerson(ALICE));
+        assertEquals(Collections.singletonList(BENSON), eventBook.getPersonsOfSelectedEventList());
+    }
+
+    @Test
+    public void retainPersonsIn_personsNotInAddressBook_removesPersonsFromEvents() {
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        eventBook.addEvent(event);
+
+        eventBook.retainPersonsIn(new AddressBookBuilder().withPerson(BENSON).build());
+
+        Event retainedEvent = eventBook.getEventList().get(0);
+        assertFalse(retainedEvent.hasPerson(ALICE));
+        assertTrue(retainedEvent.hasPerson(BENSON));
+    }
+
+    @Test
+    public void retainPersonsIn_eventSelected_updatesSelectedPersons() {
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build();
+        eventBook.addEvent(event);
+        eventBook.selectEvent(event, getTypicalAddressBook());
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone(VALID_PHONE_BOB).build();
+        eventBook.retainPersonsIn(new AddressBookBuilder().withPerson(ALICE).withPerson(editedCarl).build());
+
+        assertEquals(Arrays.asList(ALICE, editedCarl), eventBook.getPersonsOfSelectedEventList());
+    }
+
+    @Test
+    public void getEventsOfPerson_personInEvents_returnsEventsOfPerson() {
+        Event bingo = new EventBuilder(getBingoEvent()).withPerson(ALICE).withPerson(BENSON).build();
+        Event hiking = new EventBuilder(getHikingEvent()).withPerson(ALICE).build();
+        eventBook.addEvent(bingo);
+        eventBook.addEvent(hiking);
+
+        assertEquals(new HashSet<>(Arrays.asList(bingo, hiking)), eventBook.getEventsOfPerson(ALICE));
+        assertEquals(Collections.singleton(bingo), eventBook.getEventsOfPerson(BENSON));
+        assertEquals(Collections.emptySet(), eventBook.getEventsOfPerson(CARL));
+    }
+
+    @Test
+    public void getEventsOfPerson_afterMembershipChanges_reflectsChanges() {
+        Event bingo = new EventBuilder(getBingoEvent()).build();
+        Event hiking = new EventBuilder(getHikingEvent()).withPerson(ALICE).build();
+        eventBook.addEvent(bingo);
+        eventBook.addEvent(hiking);
+        eventBook.selectEvent(bingo, getTypicalAddressBook());
+
+        eventBook.addPersonToSelectedEvent(ALICE);
+        assertEquals(new HashSet<>(Arrays.asList(bingo, hiking)), eventBook.getEventsOfPerson(ALICE));
+
+        eventBook.deletePersonFromSelectedEvent(ALICE);
+        assertEquals(Collections.singleton(hiking), eventBook.getEventsOfPerson(ALICE));
+
+        eventBook.removeEvent(hiking);
+        assertEquals(Collections.emptySet(), eventBook.getEventsOfPerson(ALICE));
+    }
+
+    @Test
+    public void getEventsOfPerson_afterRename_followsEditedPerson() {
+        Event event = new EventBuilder().withPerson(ALICE).build();
+        eventBook.addEvent(event);
+
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        eventBook.editPersonInAllEvents(ALICE, editedAlice);
+
+        assertEquals(Collections.emptySet(), eventBook.getEventsOfPerson(ALICE));
+        assertEquals(Collections.singleton(event), eventBook.getEventsOfPerson(editedAlice));
+    }
+
+    @Test
+    public void getEventsOfPerson_modifySet_throwsUnsupportedOperationException() {
+        eventBook.addEvent(new EventBuilder().withPerson(ALICE).build());
+        assertThrows(UnsupportedOperationException.class, () -> eventBook.getEventsOfPerson(ALICE).clear());
+    }
+
+    @Test
+    public void getVersion_eventBookModified_versionChanges() {
+        Event event = new EventBuilder().build();
+        long initialVersion = eventBook.getVersion();
+
+        eventBook.addEvent(event);
+        long versionAfterAdd = eventBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        eventBook.selectEvent(event, getTypicalAddressBook());
+        assertEquals(versionAfterAdd, eventBook.getVersion());
+
+        eventBook.addPersonToSelectedEvent(ALICE);
+        assertNotEquals(versionAfterAdd, eventBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_personNotInAnyEvent_versionUnchanged() {
+        eventBook.addEvent(new EventBuilder().withPerson(ALICE).build());
+        long version = eventBook.getVersion();
+
+        eventBook.deletePersonFromAllEvents(BENSON);
+        eventBook.editPersonInAllEvents(ALICE, new PersonBuilder(ALICE).withPhone("999").build());
+        assertEquals(version, eventBook.getVersion());
+    }
+
     /**
      * A stub ReadOnlyEventBook whose events list can violate interface constraints.
      */
@@ -145,5 +293,15 @@ public class EventBookTest {
         public ObservableList<Person> getPersonsOfSelectedEventList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public ChangeLog<Event> getEventChangeLog() {
+            return new ChangeLog<>();
+        }
     }
 }
@@ -195,6 +195,67 @@ public class ModelManagerTest {
         assertTrue(modelManager.getFilteredEventList().contains(editedEvent));
     }
 
+    @Test
+    public void deletePerson_personInEvent_removesPersonFromEvent() {
+        modelManager.addPerson(ALICE);
+        Event event = new EventBuilder().withPerson(ALICE).build();
+        modelManager.addEvent(event);
+        modelManager.selectEvent(event);
+
+        modelManager.deletePerson(ALICE);
+
+        assertFalse(modelManager.getEventBook().getEventList().get(0).hasPerson(ALICE));
+        assertFalse(modelManager.getFilteredPersonListOfSelectedEvent().contains(ALICE));
+    }
+
+    @Test
+    public void setAddressBook_personsRemoved_removesPersonsFromEvents() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager.addEvent(event);
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+
+        Event retainedEvent = modelManager.getEventBook().getEventList().get(0);
+        assertFalse(retainedEvent.hasPerson(ALICE));
+        assertTrue(retainedEvent.hasPerson(BENSON));
+    }
+
+    @Test
+    public void constructor_attendeesNotInAddressBook_attendeesKept() {
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager model = new ModelManager(new AddressBookBuilder().withPerson(BENSON).build(), new UserPrefs(),
+                new EventBookBuilder().withEvent(event).build(), new PersonDataExporter());
+
+        assertTrue(event.hasPerson(ALICE));
+        model.selectEvent(event);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonListOfSelectedEvent());
+    }
+
+    @Test
+    public void finishLoadingEventBook_attendeesNotInAddressBook_attendeesKept() {
+        Event event = new EventBuilder().withPerson(ALICE).build();
+        EventBook loadedEventBook = new EventBook();
+        loadedEventBook.addEvent(event);
+        modelManager.startLoadingEventBook();
+        modelManager.addLoadedEvents(Arrays.asList(event));
+        modelManager.finishLoadingEventBook(loadedEventBook);
+
+        assertTrue(event.hasPerson(ALICE));
+    }
+
+    @Test
+    public void addPerson_unresolvedAttendeeOfSelectedEvent_showsPersonInSelectedEvent() {
+        Event event = new EventBuilder().withPerson(ALICE).build();
+        modelManager.addEvent(event);
+        modelManager.selectEvent(event);
+        assertTrue(modelManager.getFilteredPersonListOfSelectedEvent().isEmpty());
+
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonListOfSelectedEvent());
+    }
+
     @Test
     public void isEqualSelectedEvent_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.isSameSelectedEvent(null));
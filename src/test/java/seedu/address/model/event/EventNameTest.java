@@ -1,6 +1,7 @@
 package seedu.address.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -13,6 +14,13 @@ public class EventNameTest {
         assertThrows(NullPointerException.class, () -> new EventName(null));
     }
 
+    @Test
+    public void of_equalNames_returnsSameEventName() {
+        EventName eventName = EventName.of("Orientation");
+        assertSame(eventName, EventName.of("Orientation"));
+        assertSame(eventName, new EventName("Orientation").intern());
+    }
+
     @Test
     public void equals() {
         EventName eventName = new EventName("Valid EventName");
@@ -6,6 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +20,30 @@ import seedu.address.testutil.EventBuilder;
 
 public class EventTest {
 
+    @Test
+    public void getIdentityKey() {
+        Event event = new EventBuilder().withPerson(ALICE).build();
+        Event sameIdentityEvent = new EventBuilder().build();
+
+        assertEquals(event.getIdentityKey(), sameIdentityEvent.getIdentityKey());
+        assertEquals(event.getIdentityKey().hashCode(), event.hashCode());
+        assertFalse(event.getIdentityKey().equals(new EventBuilder().withEventName("Other").build().getIdentityKey()));
+        assertFalse(event.getIdentityKey().equals(new Event(event.getEventName(), new EventDate("01-01-2001"))
+                .getIdentityKey()));
+    }
+
+    @Test
+    public void constructor_copy_copiesPersonsIndependently() {
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        Event copy = new Event(event);
+        assertEquals(event, copy);
+        assertEquals(Arrays.asList(ALICE.getName(), BENSON.getName()), new ArrayList<>(copy.getAttendees()));
+
+        copy.addPerson(CARL);
+        assertTrue(copy.hasPerson(CARL));
+        assertFalse(event.hasPerson(CARL));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         Event event = new EventBuilder().build();
@@ -68,7 +96,7 @@ public class EventTest {
     public void setPerson_editedPersonIsSamePerson_success() {
         Event event = new EventBuilder().withPerson(ALICE).build();
         event.setPerson(ALICE, ALICE);
-        assertTrue(event.getPersonList().contains(ALICE));
+        assertTrue(event.hasPerson(ALICE));
     }
 
     @Test
@@ -76,8 +104,35 @@ public class EventTest {
         Event event = new EventBuilder().withPerson(ALICE).build();
         event.setPerson(ALICE, BENSON);
 
-        assertFalse(event.getPersonList().contains(ALICE));
-        assertTrue(event.getPersonList().contains(BENSON));
+        assertFalse(event.hasPerson(ALICE));
+        assertTrue(event.hasPerson(BENSON));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_keepsOrderOfPersons() {
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        event.setPerson(ALICE, CARL);
+
+        assertEquals(Arrays.asList(CARL.getName(), BENSON.getName()), new ArrayList<>(event.getAttendees()));
+    }
+
+    @Test
+    public void setPerson_editedPersonAlreadyInEvent_throwsDuplicatePersonException() {
+        Event event = new EventBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        assertThrows(DuplicatePersonException.class, () -> event.setPerson(ALICE, BENSON));
+    }
+
+    @Test
+    public void deletePerson_personNotInEvent_throwsPersonNotFoundException() {
+        Event event = new EventBuilder().build();
+        assertThrows(PersonNotFoundException.class, () -> event.deletePerson(ALICE));
+    }
+
+    @Test
+    public void deletePerson_personInEvent_removesPerson() {
+        Event event = new EventBuilder().withPerson(ALICE).build();
+        event.deletePerson(ALICE);
+        assertFalse(event.hasPerson(ALICE));
     }
 
     @Test
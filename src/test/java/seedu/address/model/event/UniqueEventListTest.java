@@ -44,6 +44,13 @@ public class UniqueEventListTest {
         assertTrue(uniqueEventList.contains(editedBingo));
     }
 
+    @Test
+    public void contains_eventWithSameNameButDifferentDate_returnsFalse() {
+        uniqueEventList.add(getBingoEvent());
+        Event bingoOnAnotherDate = new Event(getBingoEvent().getEventName(), new EventDate("06-07-2024"));
+        assertFalse(uniqueEventList.contains(bingoOnAnotherDate));
+    }
+
     @Test
     public void add_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.add(null));
@@ -55,6 +62,23 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.add(getBingoEvent()));
     }
 
+    @Test
+    public void addAll_distinctEvents_addsToEnd() {
+        uniqueEventList.add(getBingoEvent());
+        uniqueEventList.addAll(Arrays.asList(getHikingEvent()));
+        assertEquals(Arrays.asList(getBingoEvent(), getHikingEvent()), uniqueEventList.asUnmodifiableObservableList());
+        assertTrue(uniqueEventList.contains(getHikingEvent()));
+    }
+
+    @Test
+    public void addAll_duplicateEvents_throwsDuplicateEventException() {
+        uniqueEventList.add(getBingoEvent());
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.addAll(Arrays.asList(getBingoEvent())));
+        assertThrows(DuplicateEventException.class, () ->
+                uniqueEventList.addAll(Arrays.asList(getHikingEvent(), getHikingEvent())));
+        assertEquals(Arrays.asList(getBingoEvent()), uniqueEventList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setEvent_nullTargetEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.setEvent(null, getBingoEvent()));
@@ -124,6 +148,15 @@ public class UniqueEventListTest {
         assertEquals(expectedUniqueEventList, uniqueEventList);
     }
 
+    @Test
+    public void remove_existingEvent_shiftsIndexOfLaterEvents() {
+        uniqueEventList.add(getBingoEvent());
+        uniqueEventList.add(getHikingEvent());
+        uniqueEventList.remove(getBingoEvent());
+        assertEquals(0, uniqueEventList.indexOf(getHikingEvent()));
+        assertFalse(uniqueEventList.contains(getBingoEvent()));
+    }
+
     @Test
     public void setEvents_nullUniqueEventList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.setEvents((UniqueEventList) null));
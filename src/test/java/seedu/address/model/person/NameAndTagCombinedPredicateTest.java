@@ -57,7 +57,7 @@ public class NameAndTagCombinedPredicateTest {
 
         // Expected output string
         String expected = "NameAndTagCombinedPredicate{namePredicate=seedu.address.model.person."
-                + "NameContainsKeywordsPredicate{keywords=[Alice]}, tagPredicate=null}";
+                + "NameContainsKeywordsPredicate{keywords=[Alice], isFuzzy=false}, tagPredicate=null}";
 
         // Check if the actual toString output matches the expected string
         assertEquals(expected, predicate.toString());
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -74,12 +75,65 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_fuzzyNameMatchesKeywords_returnsTrue() {
+        // Prefix of a word
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("al"), true);
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Alice").build()));
+
+        // One typo in a short keyword
+        predicate = new NameContainsKeywordsPredicate(List.of("Alce"), true);
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Two typos in a long keyword
+        predicate = new NameContainsKeywordsPredicate(List.of("Jonahtan"), true);
+        assertTrue(predicate.test(new PersonBuilder().withName("Jonathan").build()));
+    }
+
+    @Test
+    public void test_fuzzyNameDoesNotMatchKeywords_returnsFalse() {
+        // Typo in a keyword too short for typos
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("xl"), true);
+        assertFalse(predicate.test(new PersonBuilder().withName("Al").build()));
+
+        // Two typos in a short keyword
+        predicate = new NameContainsKeywordsPredicate(List.of("Alcx"), true);
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Fuzzy and exact predicates are different
+        assertFalse(predicate.equals(new NameContainsKeywordsPredicate(List.of("Alcx"))));
+    }
+
+    @Test
+    public void test_withMatchingNames_looksUpName() {
+        Person alice = new PersonBuilder().withName("Alice Bob").build();
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
+
+        // names are looked up instead of being matched against the keywords
+        assertTrue(predicate.withMatchingNames(Set.of(alice.getName()), () -> true).test(alice));
+        assertFalse(predicate.withMatchingNames(Set.of(), () -> true).test(alice));
+
+        // looking up names does not change equality
+        assertEquals(predicate, predicate.withMatchingNames(Set.of(), () -> true));
+    }
+
+    @Test
+    public void test_matchingNamesNotCurrent_matchesKeywords() {
+        Person alice = new PersonBuilder().withName("Alice Bob").build();
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+
+        assertTrue(predicate.withMatchingNames(Set.of(), () -> false).test(alice));
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("Carol"))
+                .withMatchingNames(Set.of(alice.getName()), () -> false).test(alice));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
 
-        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", isFuzzy=false}";
         assertEquals(expected, predicate.toString());
     }
 }
@@ -11,6 +11,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 public class TagContainsKeywordsPredicateTest {
 
@@ -39,6 +40,30 @@ public class TagContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void test_withMatchingNames_looksUpName() {
+        Person alice = new PersonBuilder().withName("Alice").withTags("friends").build();
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Set.of(new Tag("colleagues")));
+        assertFalse(predicate.test(alice));
+
+        // names are looked up instead of comparing tags
+        assertTrue(predicate.withMatchingNames(Set.of(alice.getName()), () -> true).test(alice));
+        assertFalse(predicate.withMatchingNames(Set.of(), () -> true).test(alice));
+
+        // looking up names does not change equality
+        assertEquals(predicate, predicate.withMatchingNames(Set.of(), () -> true));
+    }
+
+    @Test
+    public void test_matchingNamesNotCurrent_comparesTags() {
+        Person alice = new PersonBuilder().withName("Alice").withTags("friends").build();
+
+        assertTrue(new TagContainsKeywordsPredicate(Set.of(new Tag("friends")))
+                .withMatchingNames(Set.of(), () -> false).test(alice));
+        assertFalse(new TagContainsKeywordsPredicate(Set.of(new Tag("colleagues")))
+                .withMatchingNames(Set.of(alice.getName()), () -> false).test(alice));
+    }
+
     @Test
     public void toStringMethod() {
         Set<Tag> tags = new HashSet<>(Set.of(new Tag("friends"), new Tag("colleagues")));
@@ -7,16 +7,24 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -109,6 +117,24 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertEquals(1, uniquePersonList.indexOf(ALICE));
+    }
+
+    @Test
+    public void indexOf_personWithSameIdentityButDifferentFields_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(-1, uniquePersonList.indexOf(editedAlice));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +153,22 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_shiftsIndexOfLaterPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +204,117 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void updatePersons_changedPersons_onlyChangedPersonsReported() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        ChangeCounter changeCounter = new ChangeCounter();
+        uniquePersonList.asUnmodifiableObservableList().addListener(changeCounter);
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.updatePersons(Arrays.asList(ALICE, editedCarl, DANIEL, ELLE));
+
+        assertEquals(Arrays.asList(ALICE, editedCarl, DANIEL, ELLE), uniquePersonList.asUnmodifiableObservableList());
+        // Benson removed, Carl replaced and Elle added
+        assertEquals(2, changeCounter.removedCount);
+        assertEquals(2, changeCounter.addedCount);
+        assertEquals(Optional.of(editedCarl), uniquePersonList.getPerson(CARL.getName()));
+        assertEquals(3, uniquePersonList.indexOf(ELLE));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void updatePersons_reorderedPersons_replacesOwnList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.updatePersons(Arrays.asList(CARL, ALICE));
+        assertEquals(Arrays.asList(CARL, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void updatePersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.updatePersons(Arrays.asList(ALICE, ALICE)));
+        assertEquals(Arrays.asList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getNamesContainingAnyWord_afterChanges_returnsMatchingNames() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(ALICE.getName()), uniquePersonList.getNamesContainingAnyWord(List.of("PAULINE")));
+        assertEquals(Set.of(ALICE.getName(), BOB.getName()),
+                uniquePersonList.getNamesContainingAnyWord(List.of("alice", "bob", "carol")));
+
+        // partial words do not match
+        assertEquals(Set.of(), uniquePersonList.getNamesContainingAnyWord(List.of("Ali")));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia  Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(Set.of(), uniquePersonList.getNamesContainingAnyWord(List.of("alice")));
+        assertEquals(Set.of(renamedAlice.getName()), uniquePersonList.getNamesContainingAnyWord(List.of("pauline")));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Set.of(), uniquePersonList.getNamesContainingAnyWord(List.of("bob")));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Set.of(), uniquePersonList.getNamesContainingAnyWord(List.of("pauline")));
+        assertEquals(Set.of(BOB.getName()), uniquePersonList.getNamesContainingAnyWord(List.of("choo")));
+    }
+
+    @Test
+    public void getNamesFuzzyMatchingAnyWord_afterChanges_returnsMatchingNames() {
+        Person jonathan = new PersonBuilder().withName("Jonathan Tan").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(jonathan);
+
+        assertEquals(Set.of(ALICE.getName()), uniquePersonList.getNamesFuzzyMatchingAnyWord(List.of("ALI")));
+        assertEquals(Set.of(ALICE.getName(), jonathan.getName()),
+                uniquePersonList.getNamesFuzzyMatchingAnyWord(List.of("paulnie", "jonahtan")));
+        assertEquals(Set.of(jonathan.getName()), uniquePersonList.getNamesFuzzyMatchingAnyWord(List.of("tam")));
+        assertEquals(Set.of(), uniquePersonList.getNamesFuzzyMatchingAnyWord(List.of("xa")));
+
+        uniquePersonList.remove(jonathan);
+        assertEquals(Set.of(), uniquePersonList.getNamesFuzzyMatchingAnyWord(List.of("jon", "tan")));
+        assertEquals(Set.of(ALICE.getName()), uniquePersonList.getNamesFuzzyMatchingAnyWord(List.of("alize")));
+    }
+
+    @Test
+    public void getNamesWithAllTags_afterChanges_returnsMatchingNames() {
+        Person amy = new PersonBuilder().withName("Amy").withTags("a", "b").build();
+        Person ben = new PersonBuilder().withName("Ben").withTags("a").build();
+        Person cat = new PersonBuilder().withName("Cat").withTags("a", "b").build();
+        uniquePersonList.setPersons(Arrays.asList(amy, ben, cat));
+        Tag tagA = new Tag("a");
+        Tag tagB = new Tag("b");
+
+        assertEquals(Set.of(amy.getName(), ben.getName(), cat.getName()),
+                uniquePersonList.getNamesWithAllTags(List.of()));
+        assertEquals(Set.of(amy.getName(), cat.getName()), uniquePersonList.getNamesWithAllTags(List.of(tagA, tagB)));
+        assertEquals(Set.of(), uniquePersonList.getNamesWithAllTags(List.of(tagA, new Tag("c"))));
+
+        // persons after a removed person keep their tags
+        uniquePersonList.remove(amy);
+        assertEquals(Set.of(ben.getName(), cat.getName()), uniquePersonList.getNamesWithAllTags(List.of(tagA)));
+        assertEquals(Set.of(cat.getName()), uniquePersonList.getNamesWithAllTags(List.of(tagB)));
+
+        Person editedBen = new PersonBuilder(ben).withTags("b").build();
+        uniquePersonList.setPerson(ben, editedBen);
+        assertEquals(Set.of(cat.getName()), uniquePersonList.getNamesWithAllTags(List.of(tagA)));
+        assertEquals(Set.of(ben.getName(), cat.getName()), uniquePersonList.getNamesWithAllTags(List.of(tagB)));
+
+        uniquePersonList.add(amy);
+        assertEquals(Set.of(amy.getName(), cat.getName()), uniquePersonList.getNamesWithAllTags(List.of(tagA, tagB)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +325,20 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    /**
+     * Counts the persons removed from and added to a list.
+     */
+    private static class ChangeCounter implements ListChangeListener<Person> {
+        private int removedCount;
+        private int addedCount;
+
+        @Override
+        public void onChanged(Change<? extends Person> change) {
+            while (change.next()) {
+                removedCount += change.getRemovedSize();
+                addedCount += change.getAddedSize();
+            }
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag NEIGHBOURS = new Tag("neighbours");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_unsortedTagsWithDuplicates_sortedCanonicalTags() {
+        TagSet tagSet = TagSet.of(Arrays.asList(NEIGHBOURS, FRIENDS, new Tag("friends"), COLLEAGUES));
+
+        List<Tag> iteratedTags = new ArrayList<>();
+        tagSet.forEach(iteratedTags::add);
+        assertEquals(Arrays.asList(COLLEAGUES, FRIENDS, NEIGHBOURS), iteratedTags);
+        assertEquals(iteratedTags, new ArrayList<>(tagSet));
+        assertSame(Tag.of("friends"), iteratedTags.get(1));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Arrays.asList(FRIENDS, COLLEAGUES));
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(NEIGHBOURS));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(TagSet.of(Collections.emptySet()).contains(FRIENDS));
+    }
+
+    @Test
+    public void containsAll() {
+        TagSet tagSet = TagSet.of(Arrays.asList(FRIENDS, COLLEAGUES, NEIGHBOURS));
+        assertTrue(tagSet.containsAll(TagSet.of(Arrays.asList(NEIGHBOURS, COLLEAGUES))));
+        assertTrue(tagSet.containsAll(TagSet.of(Collections.emptySet())));
+        assertTrue(tagSet.containsAll(new HashSet<>(Arrays.asList(FRIENDS, NEIGHBOURS))));
+        assertFalse(tagSet.containsAll(TagSet.of(Arrays.asList(FRIENDS, new Tag("family")))));
+        assertFalse(tagSet.containsAll(TagSet.of(Arrays.asList(new Tag("zoo")))));
+        assertFalse(tagSet.containsAll(new HashSet<>(Arrays.asList(FRIENDS, new Tag("family")))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Arrays.asList(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(COLLEAGUES));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(FRIENDS, COLLEAGUES));
+        TagSet tagSet = TagSet.of(hashSet);
+
+        assertTrue(tagSet.equals(TagSet.of(Arrays.asList(COLLEAGUES, FRIENDS))));
+        assertTrue(tagSet.equals(hashSet));
+        assertTrue(hashSet.equals(tagSet));
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+
+        assertFalse(tagSet.equals(TagSet.of(Arrays.asList(FRIENDS))));
+        assertFalse(tagSet.equals(null));
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,15 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalTagNames_returnsSameTag() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of("friends"));
+        assertSame(tag, new Tag("friends").intern());
+        assertNotSame(tag, Tag.of("colleagues"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -0,0 +1,81 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generatePersons_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1).generatePersons(-1));
+    }
+
+    @Test
+    public void generatePersons_sameSeed_samePersons() {
+        assertEquals(new SyntheticDataGenerator(1).generatePersons(100),
+                new SyntheticDataGenerator(1).generatePersons(100));
+        assertNotEquals(new SyntheticDataGenerator(1).generatePersons(100),
+                new SyntheticDataGenerator(2).generatePersons(100));
+    }
+
+    @Test
+    public void generateAddressBook_distinctPersons() {
+        // setting the persons of an address book fails if any two persons have the same name
+        AddressBook addressBook = new SyntheticDataGenerator(1).generateAddressBook(5000);
+        assertEquals(5000, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void generateEventBook_attendeesAreGeneratedPersons() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        AddressBook addressBook = generator.generateAddressBook(1000);
+        EventBook eventBook = generator.generateEventBook(50, addressBook);
+
+        Set<Name> names = addressBook.getPersonList().stream().map(Person::getName).collect(Collectors.toSet());
+        assertEquals(50, eventBook.getEventList().size());
+        for (Event event : eventBook.getEventList()) {
+            assertTrue(event.getAttendees().size() >= 10);
+            assertTrue(names.containsAll(event.getAttendees()));
+        }
+    }
+
+    @Test
+    public void generateEvents_fewPersons_allPersonsAttend() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        List<Person> persons = generator.generatePersons(3);
+        for (Event event : generator.generateEvents(5, persons)) {
+            assertEquals(3, event.getAttendees().size());
+        }
+    }
+
+    @Test
+    public void generateEvents_zipfAttendance_fewPersonsAttendMostEvents() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        List<Person> persons = generator.generatePersons(10000);
+        Map<Name, Integer> attendance = new HashMap<>();
+        for (Event event : generator.generateEvents(200, persons)) {
+            event.getAttendees().forEach(name -> attendance.merge(name, 1, Integer::sum));
+        }
+
+        int mostAttended = attendance.values().stream().max(Comparator.naturalOrder()).get();
+        assertTrue(mostAttended > 150);
+        assertTrue(attendance.size() < persons.size());
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+
+public class BackgroundStorageWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = createStorageManager();
+    }
+
+    private StorageManager createStorageManager() {
+        return new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonEventBookStorage(testFolder.resolve("eb")));
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterRequest_savesBookAsRequested() throws Exception {
+        BackgroundStorageWriter writer = new BackgroundStorageWriter(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+        writer.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        writer.close();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveEventBook_personsOfEventChangedAfterRequest_savesBookAsRequested() throws Exception {
+        BackgroundStorageWriter writer = new BackgroundStorageWriter(storage);
+        EventBook eventBook = getTypicalEventBook();
+        eventBook.selectEvent(eventBook.getEventList().get(0), getTypicalAddressBook());
+        writer.saveEventBook(eventBook);
+        eventBook.addPersonToSelectedEvent(HOON);
+        writer.close();
+
+        Event savedEvent = storage.readEventBook().get().getEventList().get(0);
+        assertEquals(getTypicalEventBook().getEventList().get(0).getAttendees(), savedEvent.getAttendees());
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescedIntoLatestBook() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> savedBooks = new CopyOnWriteArrayList<>();
+        StorageManager blockingStorage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonEventBookStorage(testFolder.resolve("eb"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                savedBooks.add(addressBook);
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveReleased.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                super.saveAddressBook(addressBook);
+            }
+        };
+        BackgroundStorageWriter writer = new BackgroundStorageWriter(blockingStorage);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        writer.saveAddressBook(addressBook);
+        firstSaveStarted.await();
+        addressBook.addPerson(HOON);
+        writer.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        writer.saveAddressBook(addressBook);
+        firstSaveReleased.countDown();
+        writer.close();
+
+        assertEquals(2, savedBooks.size());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedBook_savedOnce() {
+        List<ReadOnlyAddressBook> savedBooks = new CopyOnWriteArrayList<>();
+        BackgroundStorageWriter writer = new BackgroundStorageWriter(new StorageManager(null, null, null) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+                savedBooks.add(addressBook);
+            }
+        });
+
+        AddressBook addressBook = getTypicalAddressBook();
+        writer.saveAddressBook(addressBook);
+        writer.saveAddressBook(addressBook);
+        writer.close();
+
+        assertEquals(1, savedBooks.size());
+    }
+
+    @Test
+    public void saveAddressBook_saveFails_failureReportedAndRetried() {
+        IOException failure = new IOException("dummy IO exception");
+        List<ReadOnlyAddressBook> savedBooks = new CopyOnWriteArrayList<>();
+        List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+        BackgroundStorageWriter writer = new BackgroundStorageWriter(new StorageManager(null, null, null) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                savedBooks.add(addressBook);
+                throw failure;
+            }
+        });
+        writer.setFailureHandler(reportedFailures::add);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        writer.saveAddressBook(addressBook);
+        writer.flush();
+        writer.saveAddressBook(addressBook);
+        writer.close();
+
+        assertEquals(2, savedBooks.size());
+        assertEquals(List.of(failure, failure), reportedFailures);
+    }
+}
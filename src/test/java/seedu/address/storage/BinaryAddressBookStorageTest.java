@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.bin");
+        storage = new BinaryAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_noSuchFile_returnsEmpty() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_eventBookFile_throwsDataLoadingException() throws Exception {
+        new BinaryEventBookStorage(filePath).saveEventBook(new EventBook());
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_laterVersion_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinarySnapshotFile.VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFileWithBackup_readsBackup() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+
+        // Replace the file rather than overwriting it, as it may share its content with the backup
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.delete(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.EventBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class BinaryEventBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BinaryEventBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new BinaryEventBookStorage(testFolder.resolve("TempEventBook.bin"));
+    }
+
+    @Test
+    public void readEventBook_noSuchFile_returnsEmpty() throws Exception {
+        assertFalse(storage.readEventBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveEventBook_allInOrder_success() throws Exception {
+        EventBook original = getTypicalEventBook();
+        Event event = new EventBuilder().withEventName("Karaoke").withPerson(BENSON).withPerson(ALICE).build();
+        original.addEvent(event);
+        storage.saveEventBook(original);
+
+        ReadOnlyEventBook readBack = storage.readEventBook().get();
+        assertEquals(original, new EventBook(readBack));
+        for (int i = 0; i < original.getEventList().size(); i++) {
+            assertEquals(new ArrayList<>(original.getEventList().get(i).getAttendees()),
+                    new ArrayList<>(readBack.getEventList().get(i).getAttendees()));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournalAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        storage = new JournalAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_noSuchFile_returnsEmpty() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Changes are appended to the journal and not written to the snapshot
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName(VALID_NAME_BOB).build());
+        storage.saveAddressBook(original);
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook()
+                .get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfReadAddressBookChanged_changesAppended() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        AddressBook copy = new AddressBook(reopenedStorage.readAddressBook().get());
+        copy.addPerson(HOON);
+        reopenedStorage.saveAddressBook(copy);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook()
+                .get()));
+        assertEquals(copy, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalUnchanged() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+
+        storage.saveAddressBook(original);
+        assertEquals(journal, Files.readAllLines(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_tooManyChanges_compactsJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i <= ListJournal.MAX_RECORD_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        original.setPersons(persons);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+
+        // Snapshot written without the journal being reset, as if a compaction was interrupted
+        modified.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(modified);
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(modified, new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // The next save compacts instead of appending to the stale journal
+        modified.addPerson(ALICE);
+        reopenedStorage.saveAddressBook(modified);
+        assertEquals(modified, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(storage.getJournalFilePath(), Arrays.asList("+0 {\"name\": \"R@chel\"}", "#commit"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_recordDropped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+
+        // A save torn by a crash after its first record, in the middle of its second record
+        Files.write(storage.getJournalFilePath(), ("-0" + System.lineSeparator() + "+0 {\"name\": \"Al")
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+        assertEquals(journal, Files.readAllLines(storage.getJournalFilePath()));
+
+        // Later saves are appended after the last committed save
+        original.removePerson(ALICE);
+        reopenedStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_savesSnapshotOnly() throws Exception {
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(ListJournal.journalFilePathOf(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.EventBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalEventBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournalEventBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempEventBook.json");
+        storage = new JournalEventBookStorage(filePath);
+    }
+
+    @Test
+    public void readEventBook_noSuchFile_returnsEmpty() throws Exception {
+        assertFalse(storage.readEventBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveEventBook_allInOrder_success() throws Exception {
+        EventBook original = getTypicalEventBook();
+        storage.saveEventBook(original);
+
+        original.addEvent(new EventBuilder().withEventName("Karaoke").build());
+        original.removeEvent(original.getEventList().get(0));
+        storage.saveEventBook(original);
+
+        ReadOnlyEventBook readBack = new JournalEventBookStorage(filePath).readEventBook().get();
+        assertEquals(original, new EventBook(readBack));
+    }
+
+    @Test
+    public void saveEventBook_personsOfEventChanged_personsSaved() throws Exception {
+        EventBook original = getTypicalEventBook();
+        storage.saveEventBook(original);
+
+        Event event = original.getEventList().get(0);
+        original.selectEvent(event, getTypicalAddressBook());
+        original.addPersonToSelectedEvent(ALICE);
+        storage.saveEventBook(original);
+
+        ReadOnlyEventBook readBack = new JournalEventBookStorage(filePath).readEventBook().get();
+        assertEquals(getAttendees(original), getAttendees(readBack));
+    }
+
+    @Test
+    public void saveEventBook_personAddedToEvent_onlyAddedPersonJournaled() throws Exception {
+        EventBook original = new EventBook();
+        Event event = new EventBuilder().withPerson(BENSON).withPerson(CARL).withPerson(DANIEL).build();
+        original.addEvent(event);
+        storage.saveEventBook(original);
+
+        original.selectEvent(event, getTypicalAddressBook());
+        original.addPersonToSelectedEvent(ALICE);
+        storage.saveEventBook(original);
+
+        String record = getLastRecord();
+        assertTrue(record.startsWith("~"));
+        assertTrue(record.contains(ALICE.getName().fullName));
+        assertFalse(record.contains(BENSON.getName().fullName));
+
+        ReadOnlyEventBook readBack = new JournalEventBookStorage(filePath).readEventBook().get();
+        assertEquals(getAttendees(original), getAttendees(readBack));
+    }
+
+    @Test
+    public void saveEventBook_personOfEventRenamed_wholeEventJournaled() throws Exception {
+        EventBook original = new EventBook();
+        original.addEvent(new EventBuilder().withPerson(BENSON).withPerson(CARL).withPerson(DANIEL).build());
+        storage.saveEventBook(original);
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Lee").build();
+        original.editPersonInAllEvents(BENSON, renamedBenson);
+        storage.saveEventBook(original);
+
+        // The renamed person keeps its place among the persons of the event, which the added persons cannot
+        assertTrue(getLastRecord().startsWith("+"));
+
+        ReadOnlyEventBook readBack = new JournalEventBookStorage(filePath).readEventBook().get();
+        assertEquals(getAttendees(original), getAttendees(readBack));
+    }
+
+    /**
+     * Returns the last change record in the journal, which is followed by the commit line of its save.
+     */
+    private String getLastRecord() throws Exception {
+        List<String> lines = Files.readAllLines(storage.getJournalFilePath());
+        return lines.get(lines.size() - 2);
+    }
+
+    private static List<List<Name>> getAttendees(ReadOnlyEventBook eventBook) {
+        List<List<Name>> attendees = new ArrayList<>();
+        for (Event event : eventBook.getEventList()) {
+            attendees.add(new ArrayList<>(event.getAttendees()));
+        }
+        return attendees;
+    }
+}
@@ -4,30 +4,32 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.getBingoEvent;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.EventDate;
 import seedu.address.model.event.EventName;
-
-
-
+import seedu.address.model.person.Name;
+import seedu.address.testutil.EventBuilder;
 
 public class JsonAdaptedEventTest {
     private static final String INVALID_EVENTNAME = "R@chel";
-    private static final String VALID_EVENTDATE = "2024/04/05";
+    private static final String INVALID_EVENTDATE = "2024/04/05";
+    private static final String VALID_EVENTDATE = "05-04-2024";
 
     private static final String VALID_EVENTNAME = getBingoEvent().getEventName().toString();
 
-    private static final List<JsonAdaptedPerson> VALID_PERSONS = getBingoEvent().getPersonList().stream()
-            .map(JsonAdaptedPerson::new)
-            .collect(Collectors.toList());
-
-
+    private static final List<String> VALID_ATTENDEES = Arrays.asList(ALICE.getName().fullName,
+            BENSON.getName().fullName);
 
     @Test
     public void toModelType_validEventDetails_returnsEvent() throws Exception {
@@ -35,25 +37,61 @@ public class JsonAdaptedEventTest {
         assertEquals(getBingoEvent(), event.toModelType());
     }
 
+    @Test
+    public void toModelType_eventWithPersons_keepsNamesOfPersons() throws Exception {
+        Event bingo = new EventBuilder(getBingoEvent()).withPerson(ALICE).withPerson(BENSON).build();
+        JsonAdaptedEvent event = new JsonAdaptedEvent(bingo);
+        assertEquals(bingo.getAttendees(), event.toModelType().getAttendees());
+    }
+
+    @Test
+    public void toModelType_embeddedPersons_keepsNamesOfPersons() throws Exception {
+        List<JsonAdaptedPerson> persons = Arrays.asList(new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(BENSON));
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENTNAME,
+                getBingoEvent().getEventDate().toString(), null, persons);
+        assertEquals(Arrays.asList(ALICE.getName(), BENSON.getName()),
+                event.toModelType().getAttendees().stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void toModelType_invalidAttendee_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENTNAME, VALID_EVENTDATE,
+                Collections.singletonList(INVALID_EVENTNAME), null);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, event::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateAttendees_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENTNAME, VALID_EVENTDATE,
+                Arrays.asList(ALICE.getName().fullName, ALICE.getName().fullName), null);
+        assertThrows(IllegalValueException.class, JsonAdaptedEvent.MESSAGE_DUPLICATE_ATTENDEE, event::toModelType);
+    }
+
     @Test
     public void toModelType_invalidEventName_throwsIllegalValueException() {
         JsonAdaptedEvent event =
-                new JsonAdaptedEvent(INVALID_EVENTNAME, VALID_EVENTDATE, VALID_PERSONS);
+                new JsonAdaptedEvent(INVALID_EVENTNAME, VALID_EVENTDATE, VALID_ATTENDEES, null);
         String expectedMessage = EventName.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
 
     @Test
     public void toModelType_nullEventName_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(null, VALID_EVENTDATE, VALID_PERSONS);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(null, VALID_EVENTDATE, VALID_ATTENDEES, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, EventName.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
 
     @Test
     public void toModelType_nullEventDate_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENTNAME, null, VALID_PERSONS);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENTNAME, null, VALID_ATTENDEES, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, EventDate.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
+
+    @Test
+    public void toModelType_invalidEventDate_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENTNAME, INVALID_EVENTDATE, VALID_ATTENDEES, null);
+        assertThrows(IllegalValueException.class, EventDate.MESSAGE_CONSTRAINTS, event::toModelType);
+    }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -13,7 +14,8 @@ import seedu.address.model.EventBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventDate;
 import seedu.address.model.event.EventName;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableEventBookTest {
@@ -21,8 +23,7 @@ public class JsonSerializableEventBookTest {
     @Test
     public void toModelType_validEventDetails_success() throws IllegalValueException {
         // Setup
-        UniquePersonList a = new UniquePersonList();
-        a.setPersons(TypicalPersons.getTypicalPersons());
+        List<Name> a = TypicalPersons.getTypicalPersons().stream().map(Person::getName).collect(Collectors.toList());
         JsonAdaptedEvent jsonEvent1 = new JsonAdaptedEvent(new Event(new EventName("Event"),
                 new EventDate("05-07-2024"), a));
         JsonAdaptedEvent jsonEvent2 = new JsonAdaptedEvent(new Event(new EventName("Event2"),
@@ -46,8 +47,7 @@ public class JsonSerializableEventBookTest {
     @Test
     public void toModelType_duplicateEvents_throwsIllegalValueException() {
         // Setup
-        UniquePersonList a = new UniquePersonList();
-        a.setPersons(TypicalPersons.getTypicalPersons());
+        List<Name> a = TypicalPersons.getTypicalPersons().stream().map(Person::getName).collect(Collectors.toList());
         JsonAdaptedEvent jsonEvent1 = new JsonAdaptedEvent(new Event(new EventName("Event"),
                 new EventDate("05-07-2024"), a));
         List<JsonAdaptedEvent> jsonEvents = new ArrayList<>();
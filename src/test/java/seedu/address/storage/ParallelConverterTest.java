@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int RECORD_COUNT = ParallelConverter.PARALLEL_THRESHOLD * 8;
+
+    private final List<Integer> added = new ArrayList<>();
+
+    @Test
+    public void convertAll_validRecords_addedInOrder() throws Exception {
+        List<String> records = getRecords();
+        ParallelConverter.convertAll(records, ParallelConverterTest::convert, added::add);
+        assertEquals(getNumbers(records.size()), added);
+    }
+
+    @Test
+    public void convertAll_fewRecords_addedInOrder() throws Exception {
+        List<String> records = getRecords().subList(0, 3);
+        ParallelConverter.convertAll(records, ParallelConverterTest::convert, added::add);
+        assertEquals(getNumbers(3), added);
+    }
+
+    @Test
+    public void convertAll_invalidRecords_firstViolationThrown() {
+        List<String> records = getRecords();
+        records.set(RECORD_COUNT - 1, "invalid last");
+        records.set(RECORD_COUNT / 2, "invalid middle");
+
+        assertThrows(IllegalValueException.class, "invalid middle", () ->
+                ParallelConverter.convertAll(records, ParallelConverterTest::convert, added::add));
+        assertEquals(getNumbers(RECORD_COUNT / 2), added);
+    }
+
+    @Test
+    public void convertAll_addBeforeInvalidRecordFails_addViolationThrown() {
+        List<String> records = getRecords();
+        records.set(RECORD_COUNT / 2, "invalid middle");
+
+        assertThrows(IllegalValueException.class, "duplicate", () ->
+                ParallelConverter.convertAll(records, ParallelConverterTest::convert, number -> {
+                    if (number == RECORD_COUNT / 4) {
+                        throw new IllegalValueException("duplicate");
+                    }
+                    added.add(number);
+                }));
+        assertEquals(getNumbers(RECORD_COUNT / 4), added);
+    }
+
+    private static Integer convert(String record) throws IllegalValueException {
+        try {
+            return Integer.valueOf(record);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(record);
+        }
+    }
+
+    private static List<String> getRecords() {
+        return IntStream.range(0, RECORD_COUNT).mapToObj(String::valueOf)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static List<Integer> getNumbers(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+}
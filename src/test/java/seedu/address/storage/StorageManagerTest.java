@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +16,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.EventBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.EventBuilder;
 
 public class StorageManagerTest {
 
@@ -61,6 +68,48 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedAddressBook_skipsSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        original.addPerson(HOON);
+        storageManager.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotOfSavedAddressBook_skipsSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(new AddressBookSnapshot(original));
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(new AddressBookSnapshot(original));
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        original.addPerson(HOON);
+        storageManager.saveAddressBook(new AddressBookSnapshot(original));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveEventBook_unchangedEventBook_skipsSave() throws Exception {
+        EventBook original = getTypicalEventBook();
+        storageManager.saveEventBook(original);
+        Files.delete(storageManager.getEventBookFilePath());
+
+        storageManager.saveEventBook(original);
+        assertFalse(Files.exists(storageManager.getEventBookFilePath()));
+
+        original.addEvent(new EventBuilder().withEventName("Karaoke").build());
+        storageManager.saveEventBook(original);
+        assertEquals(original, new EventBook(storageManager.readEventBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+
+public class StorageMigratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonAddressBookStorage jsonAddressBookStorage;
+    private BinaryAddressBookStorage binaryAddressBookStorage;
+
+    @BeforeEach
+    public void setUp() {
+        jsonAddressBookStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        binaryAddressBookStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+    }
+
+    @Test
+    public void migrateAddressBook_noTargetFile_migrated() throws Exception {
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(StorageMigrator.migrateAddressBook(jsonAddressBookStorage, binaryAddressBookStorage));
+        assertEquals(getTypicalAddressBook(), new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrateAddressBook_targetFileExists_notMigrated() throws Exception {
+        AddressBook binaryAddressBook = getTypicalAddressBook();
+        binaryAddressBook.addPerson(HOON);
+        binaryAddressBookStorage.saveAddressBook(binaryAddressBook);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(StorageMigrator.migrateAddressBook(jsonAddressBookStorage, binaryAddressBookStorage));
+        assertEquals(binaryAddressBook, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrateAddressBook_noSourceFile_notMigrated() throws Exception {
+        assertFalse(StorageMigrator.migrateAddressBook(jsonAddressBookStorage, binaryAddressBookStorage));
+        assertFalse(binaryAddressBookStorage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void migrateEventBook_noTargetFile_migrated() throws Exception {
+        JsonEventBookStorage jsonEventBookStorage = new JsonEventBookStorage(testFolder.resolve("eventbook.json"));
+        BinaryEventBookStorage binaryEventBookStorage =
+                new BinaryEventBookStorage(testFolder.resolve("eventbook.bin"));
+        jsonEventBookStorage.saveEventBook(getTypicalEventBook());
+
+        assertTrue(StorageMigrator.migrateEventBook(jsonEventBookStorage, binaryEventBookStorage));
+        assertEquals(getTypicalEventBook(), new EventBook(binaryEventBookStorage.readEventBook().get()));
+    }
+}
@@ -2,10 +2,12 @@ package seedu.address.testutil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventDate;
 import seedu.address.model.event.EventName;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -19,7 +21,7 @@ public class EventBuilder {
     private EventName eventName;
 
     private EventDate eventDate;
-    private List<Person> personList;
+    private List<Name> attendees;
 
     /**
      * Creates an {@code EventBuilder} with the default details.
@@ -27,7 +29,7 @@ public class EventBuilder {
     public EventBuilder() {
         eventName = new EventName(DEFAULT_EVENT_NAME);
         eventDate = new EventDate(DEFAULT_EVENT_DATE);
-        personList = new ArrayList<>();
+        attendees = new ArrayList<>();
     }
 
     /**
@@ -36,7 +38,7 @@ public class EventBuilder {
     public EventBuilder(Event eventToCopy) {
         eventName = eventToCopy.getEventName();
         eventDate = eventToCopy.getEventDate();
-        personList = eventToCopy.getPersonList();
+        attendees = new ArrayList<>(eventToCopy.getAttendees());
     }
 
     /**
@@ -49,18 +51,18 @@ public class EventBuilder {
     }
 
     /**
-     * Sets the {@code UniquePersonList} of the {@code Event} that we are building.
+     * Sets the persons of the {@code Event} that we are building.
      */
     public EventBuilder withPersonList(List<Person> personList) {
-        this.personList = personList;
+        this.attendees = personList.stream().map(Person::getName).collect(Collectors.toList());
         return this;
     }
 
     /**
-     * Adds a person to the {@code UniquePersonList} of the {@code Event} that we are building.
+     * Adds a person to the {@code Event} that we are building.
      */
     public EventBuilder withPerson(Person person) {
-        this.personList.add(person);
+        this.attendees.add(person.getName());
         return this;
     }
 
@@ -69,8 +71,6 @@ public class EventBuilder {
      * @return event with fields
      */
     public Event build() {
-        Event event = new Event(eventName, eventDate);
-        event.setPersons(personList);
-        return event;
+        return new Event(eventName, eventDate, attendees);
     }
 }
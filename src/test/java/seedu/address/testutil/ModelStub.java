@@ -1,6 +1,9 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.value.ObservableValue;
@@ -11,7 +14,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * A stub class for Model.
@@ -87,6 +92,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Set<Name> getNamesContainingAnyWord(Collection<String> words) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Name> getNamesFuzzyMatchingAnyWord(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Name> getNamesWithAllTags(Collection<Tag> tags) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         throw new AssertionError("This method should not be called.");
@@ -163,6 +183,46 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Set<Event> getEventsOfPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void startLoadingEventBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addLoadedEvents(List<Event> events) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void finishLoadingEventBook(ReadOnlyEventBook loadedEventBook) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void failLoadingEventBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canSaveEventBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isEventBookLoaded() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableValue<Boolean> getEventBookLoaded() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableValue<Event> getSelectedEvent() {
         throw new AssertionError("This method should not be called.");